@@ -0,0 +1,124 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+import ru.practicum.shareit.ShareItGateway;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Нагрузочный тест шлюза: сервер заменяется заглушкой с фиксированной задержкой ответа, шлюз поочередно
+ * запускается на Spring MVC и на WebFlux, и на него подается заданное число одновременных запросов.
+ * Запуск: java -cp gateway-benchmarks.jar ru.practicum.shareit.benchmarks.GatewayLoadTest
+ * [одновременных запросов] [всего запросов] [задержка сервера, мс]
+ */
+public class GatewayLoadTest {
+
+    private static final String USER = "{\"id\":1,\"name\":\"User1\",\"email\":\"email1@email.com\"}";
+
+    private static final AtomicInteger IN_FLIGHT = new AtomicInteger();
+
+    private static final AtomicInteger PEAK = new AtomicInteger();
+
+    public static void main(String[] args) {
+        int concurrency = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int requests = args.length > 1 ? Integer.parseInt(args[1]) : 10000;
+        Duration delay = Duration.ofMillis(args.length > 2 ? Long.parseLong(args[2]) : 200);
+        int cores = Runtime.getRuntime().availableProcessors();
+
+        LoopResources loops = LoopResources.create("load-test");
+        DisposableServer server = HttpServer.create()
+                .runOn(loops)
+                .port(0)
+                .handle((request, response) -> {
+                    PEAK.accumulateAndGet(IN_FLIGHT.incrementAndGet(), Math::max);
+                    return response.header("Content-Type", "application/json")
+                            .sendString(Mono.delay(delay)
+                                    .doOnNext(tick -> IN_FLIGHT.decrementAndGet())
+                                    .thenReturn(USER));
+                })
+                .bindNow();
+        try {
+            System.out.printf("Ядер: %d, одновременных запросов: %d, всего запросов: %d, задержка сервера: %d мс%n",
+                    cores, concurrency, requests, delay.toMillis());
+            for (WebApplicationType type : new WebApplicationType[]{WebApplicationType.SERVLET, WebApplicationType.REACTIVE}) {
+                run(type, loops, server.port(), concurrency, requests, cores);
+            }
+        } finally {
+            server.disposeNow();
+            loops.disposeLater().block();
+        }
+    }
+
+    private static void run(WebApplicationType type, LoopResources loops, int serverPort, int concurrency, int requests, int cores) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ShareItGateway.class)
+                .web(type)
+                .run("--server.port=0",
+                        "--shareit-server.url=http://localhost:" + serverPort,
+                        "--shareit-server.http-client.max-total=" + concurrency,
+                        "--shareit-server.http-client.max-per-route=" + concurrency,
+                        "--shareit-server.http-client.connection-request-timeout=60s",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.web.client.RestTemplate=WARN",
+                        "--logging.level.org.apache.catalina.loader=ERROR");
+        ConnectionProvider provider = ConnectionProvider.builder("load-test")
+                .maxConnections(concurrency)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        try {
+            int gatewayPort = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            HttpClient client = HttpClient.create(provider)
+                    .runOn(loops)
+                    .baseUrl("http://localhost:" + gatewayPort)
+                    .headers(headers -> headers.set("X-Sharer-User-Id", "1"));
+
+            send(client, concurrency, concurrency);
+            IN_FLIGHT.set(0);
+            PEAK.set(0);
+
+            AtomicInteger failed = new AtomicInteger();
+            long started = System.nanoTime();
+            long succeeded = Flux.range(0, requests)
+                    .flatMap(i -> client.get()
+                            .uri("/users/1")
+                            .responseSingle((response, body) -> body.thenReturn(response.status().code()))
+                            .filter(status -> status == 200)
+                            .switchIfEmpty(Mono.fromRunnable(failed::incrementAndGet))
+                            .onErrorResume(e -> {
+                                failed.incrementAndGet();
+                                return Mono.empty();
+                            }), concurrency)
+                    .count()
+                    .block();
+            double seconds = (System.nanoTime() - started) / 1e9;
+
+            System.out.printf("%-9s успешно: %d, ошибок: %d, время: %.2f с, запросов в секунду: %.0f, "
+                            + "одновременно у сервера: %d, на ядро: %.1f%n",
+                    type, succeeded, failed.get(), seconds, succeeded / seconds,
+                    PEAK.get(), (double) PEAK.get() / cores);
+        } finally {
+            provider.disposeLater().block();
+            context.close();
+        }
+    }
+
+    private static void send(HttpClient client, int concurrency, int requests) {
+        Flux.range(0, requests)
+                .flatMap(i -> client.get()
+                        .uri("/users/1")
+                        .responseSingle((response, body) -> body)
+                        .onErrorResume(e -> Mono.empty()), concurrency)
+                .blockLast();
+    }
+
+}
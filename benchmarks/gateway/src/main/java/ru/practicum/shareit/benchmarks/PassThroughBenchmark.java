@@ -0,0 +1,100 @@
+package ru.practicum.shareit.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestTemplate;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.dto.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PassThroughBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int bookings;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private BookingClient objectClient;
+
+    private BookingClient passThroughClient;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(bookingList());
+        RestTemplate rest = new RestTemplate((uri, method) -> {
+            MockClientHttpResponse response = new MockClientHttpResponse(body, HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            MockClientHttpRequest request = new MockClientHttpRequest(method, uri);
+            request.setResponse(response);
+            return request;
+        });
+        objectClient = new BookingClient(rest, false, null);
+        passThroughClient = new BookingClient(rest, true, null);
+    }
+
+    @Benchmark
+    public byte[] objectMode() throws JsonProcessingException {
+        Object body = objectClient.getBookings(1, BookingState.ALL, 0, bookings, null).getBody();
+        return objectMapper.writeValueAsBytes(body);
+    }
+
+    @Benchmark
+    public byte[] passThroughMode() {
+        return (byte[]) passThroughClient.getBookings(1, BookingState.ALL, 0, bookings, null).getBody();
+    }
+
+    private List<Map<String, Object>> bookingList() {
+        LocalDateTime start = LocalDateTime.of(2023, 1, 1, 9, 0);
+        List<Map<String, Object>> result = new ArrayList<>(bookings);
+        for (int i = 1; i <= bookings; i++) {
+            Map<String, Object> booker = new LinkedHashMap<>();
+            booker.put("id", i % 100 + 1);
+            booker.put("name", "User" + i % 100);
+            booker.put("email", "email" + i % 100 + "@email.com");
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("id", i);
+            item.put("name", "Item" + i);
+            item.put("description", "description" + i);
+            item.put("available", true);
+            item.put("requestId", null);
+            Map<String, Object> booking = new LinkedHashMap<>();
+            booking.put("id", i);
+            booking.put("start", start.plusHours(i).toString());
+            booking.put("end", start.plusHours(i + 1).toString());
+            booking.put("item", item);
+            booking.put("booker", booker);
+            booking.put("status", "APPROVED");
+            result.add(booking);
+        }
+        return result;
+    }
+
+}
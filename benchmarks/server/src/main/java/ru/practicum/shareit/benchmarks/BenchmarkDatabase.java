@@ -0,0 +1,38 @@
+package ru.practicum.shareit.benchmarks;
+
+final class BenchmarkDatabase {
+
+    private static final String URL = System.getenv("SHAREIT_BENCHMARK_DB_URL");
+
+    private BenchmarkDatabase() {
+    }
+
+    static boolean isPostgres() {
+        return URL != null;
+    }
+
+    static String[] arguments() {
+        if (isPostgres()) {
+            return new String[]{
+                    "--spring.datasource.url=" + URL,
+                    "--spring.datasource.driverClassName=org.postgresql.Driver",
+                    "--spring.datasource.username=" + System.getenv().getOrDefault("SHAREIT_BENCHMARK_DB_USERNAME", "root"),
+                    "--spring.datasource.password=" + System.getenv().getOrDefault("SHAREIT_BENCHMARK_DB_PASSWORD", "root"),
+                    "--spring.sql.init.mode=never",
+                    "--logging.level.root=WARN"
+            };
+        }
+        return new String[]{
+                "--spring.datasource.url=jdbc:h2:mem:shareit-benchmarks;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driverClassName=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.sql.init.mode=never",
+                "--spring.flyway.enabled=false",
+                "--logging.level.root=WARN"
+        };
+    }
+
+}
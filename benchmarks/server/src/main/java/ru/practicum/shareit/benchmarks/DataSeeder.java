@@ -0,0 +1,80 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Random;
+
+class DataSeeder {
+
+    private static final int BOOKINGS_PER_ITEM = 10;
+
+    private static final int ITEMS_PER_USER = 10;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int bookings;
+
+    private final int items;
+
+    private final int users;
+
+    DataSeeder(ApplicationContext context, int bookings) {
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.bookings = bookings;
+        this.items = Math.max(1, bookings / BOOKINGS_PER_ITEM);
+        this.users = Math.max(1, items / ITEMS_PER_USER);
+    }
+
+    void seed() {
+        String range = "system_range(1, ?)";
+        if (BenchmarkDatabase.isPostgres()) {
+            jdbcTemplate.execute("TRUNCATE comments, booking, item, request, users");
+            range = "generate_series(1, ?) AS r(x)";
+        }
+        jdbcTemplate.update("INSERT INTO users (id, name, email, version) " +
+                "SELECT x, 'User' || x, 'email' || x || '@email.com', 0 FROM " + range, users);
+        jdbcTemplate.update("INSERT INTO request (id, owner_id, description, created) " +
+                "SELECT x, MOD(x, ?) + 1, 'request_description' || x, LOCALTIMESTAMP - x * INTERVAL '1' HOUR " +
+                "FROM " + range, users, users);
+        jdbcTemplate.update("INSERT INTO item (id, name, description, available, owner_id, request_id, version) " +
+                "SELECT x, 'Item' || x, 'description' || x, MOD(x, 2) = 0, MOD(x - 1, ?) + 1, " +
+                "CASE WHEN MOD(x, 10) = 0 THEN MOD(x, ?) + 1 END, 0 FROM " + range, users, users, items);
+        jdbcTemplate.update("INSERT INTO booking (id, booker, item_id, status, start, finish, version) " +
+                "SELECT x, MOD(x, ?) + 1, MOD(x, ?) + 1, " +
+                "CASE MOD(x, 3) WHEN 0 THEN 'WAITING' WHEN 1 THEN 'APPROVED' ELSE 'REJECTED' END, " +
+                "LOCALTIMESTAMP + (x - ?) * INTERVAL '1' HOUR, LOCALTIMESTAMP + (x - ? + 1) * INTERVAL '1' HOUR, 0 " +
+                "FROM " + range, users, items, bookings / 2, bookings / 2, bookings);
+        jdbcTemplate.execute("ALTER SEQUENCE users_seq RESTART WITH " + (users + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE request_seq RESTART WITH " + (users + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE item_seq RESTART WITH " + (items + 1));
+        jdbcTemplate.execute("ALTER SEQUENCE booking_seq RESTART WITH " + (bookings + 1));
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS item_owner_id_id_idx ON item (owner_id, id)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS request_owner_id_created_idx ON request (owner_id, created DESC)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS booking_booker_start_idx ON booking (booker, start DESC)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS booking_item_id_start_idx ON booking (item_id, start DESC)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS booking_item_id_status_start_idx ON booking (item_id, status, start)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    int randomUserId(Random random) {
+        return random.nextInt(users) + 1;
+    }
+
+    int randomItemId(Random random) {
+        return random.nextInt(items) + 1;
+    }
+
+    int randomAvailableItemId(Random random) {
+        return (random.nextInt(Math.max(1, items / 2)) + 1) * 2;
+    }
+
+    int otherUserId(int userId) {
+        return userId % users + 1;
+    }
+
+    int ownerOf(int itemId) {
+        return (itemId - 1) % users + 1;
+    }
+
+}
@@ -0,0 +1,89 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.ItemDtoWithTime;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.request.dto.ItemRequestMapper;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.dto.UserMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final ItemMapper itemMapper = new ItemMapper();
+
+    private final BookingMapper bookingMapper = new BookingMapper(itemMapper, new UserMapper());
+
+    private final ItemRequestMapper itemRequestMapper = new ItemRequestMapper(itemMapper);
+
+    private List<Booking> bookings;
+
+    private List<Item> items;
+
+    private List<ItemRequest> requests;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        User owner = new User(1, "User1", "email1@email.com");
+        bookings = new ArrayList<>(size);
+        items = new ArrayList<>(size);
+        requests = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            User user = new User(i + 1, "User" + i, "email" + i + "@email.com");
+            ItemRequest request = new ItemRequest(i, user, "request_description" + i, now, new ArrayList<>());
+            Item item = new Item(i, "Item" + i, "description" + i, true, owner, request);
+            request.getItems().add(item);
+            items.add(item);
+            requests.add(request);
+            bookings.add(new Booking(i, item, user, BookingStatus.APPROVED, now.plusDays(i), now.plusDays(i + 1)));
+        }
+    }
+
+    @Benchmark
+    public Collection<BookingDto> bookingToDto() {
+        return bookingMapper.toDto(bookings);
+    }
+
+    @Benchmark
+    public Collection<ItemDtoWithTime> itemToDtoWithTime() {
+        return itemMapper.toDtoWithTime(items);
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> itemRequestToDto() {
+        return itemRequestMapper.toDto(requests);
+    }
+
+}
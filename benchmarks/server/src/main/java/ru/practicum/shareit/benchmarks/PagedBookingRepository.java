@@ -0,0 +1,12 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import ru.practicum.shareit.booking.Booking;
+
+public interface PagedBookingRepository extends Repository<Booking, Integer> {
+
+    Page<Booking> findByBooker_IdEquals(int userId, Pageable pageable);
+
+}
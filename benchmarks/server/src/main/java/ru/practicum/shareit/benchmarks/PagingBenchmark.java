@@ -0,0 +1,92 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PagingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    @Param({"0", "40"})
+    private int from;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionTemplate transactionTemplate;
+
+    private BookingRepository bookingRepository;
+
+    private PagedBookingRepository pagedBookingRepository;
+
+    private DataSeeder dataSeeder;
+
+    private Pageable page;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(BenchmarkDatabase.arguments());
+        dataSeeder = new DataSeeder(context, rows);
+        dataSeeder.seed();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        bookingRepository = context.getBean(BookingRepository.class);
+        pagedBookingRepository = context.getBean(PagedBookingRepository.class);
+        page = PageRequest.of(from / PAGE_SIZE, PAGE_SIZE, Sort.by("start").descending());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Booking> bookingPageWithCount() {
+        int userId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                pagedBookingRepository.findByBooker_IdEquals(userId, page).getContent());
+    }
+
+    @Benchmark
+    public List<Booking> bookingSlice() {
+        int userId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                bookingRepository.findByBooker_IdEquals(userId, page).getContent());
+    }
+
+}
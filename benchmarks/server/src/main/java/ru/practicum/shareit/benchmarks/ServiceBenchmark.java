@@ -0,0 +1,114 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.ApprovedBookingIndex;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.item.dto.ItemDtoWithTime;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"10000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionTemplate transactionTemplate;
+
+    private BookingService bookingService;
+
+    private ItemService itemService;
+
+    private ItemRequestService itemRequestService;
+
+    private DataSeeder dataSeeder;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(BenchmarkDatabase.arguments());
+        dataSeeder = new DataSeeder(context, rows);
+        dataSeeder.seed();
+        context.getBean(ApprovedBookingIndex.class).warmUp();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        transactionTemplate.setReadOnly(true);
+        bookingService = context.getBean(BookingService.class);
+        itemService = context.getBean(ItemService.class);
+        itemRequestService = context.getBean(ItemRequestService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Collection<BookingDto> bookingFindByState() {
+        int userId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                bookingService.findByState(BookingState.ALL, userId, 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<BookingDto> bookingFindByOwner() {
+        int ownerId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                bookingService.findByOwner(BookingState.ALL, ownerId, 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public Collection<ItemDtoWithTime> itemFindAllByUserId() {
+        int ownerId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                itemService.findAllByUserId(ownerId, 0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public ItemDtoWithTime itemFindById() {
+        int itemId = dataSeeder.randomItemId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                itemService.findById(itemId, dataSeeder.ownerOf(itemId)));
+    }
+
+    @Benchmark
+    public Collection<ItemRequestDto> itemRequestFindOthers() {
+        int userId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status ->
+                itemRequestService.findOthersRequests(userId, 0, PAGE_SIZE));
+    }
+
+}
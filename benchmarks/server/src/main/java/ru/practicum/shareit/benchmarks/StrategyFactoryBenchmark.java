@@ -0,0 +1,78 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerAll;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerCurrent;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerFuture;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerPast;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerRejected;
+import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerWaiting;
+import ru.practicum.shareit.booking.strategies.by.owner.StrategyByOwner;
+import ru.practicum.shareit.booking.strategies.by.owner.StrategyByOwnerFactory;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStateAll;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStateCurrent;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStateFuture;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStatePast;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStateRejected;
+import ru.practicum.shareit.booking.strategies.by.state.FindByStateWaiting;
+import ru.practicum.shareit.booking.strategies.by.state.StrategyByState;
+import ru.practicum.shareit.booking.strategies.by.state.StrategyByStateFactory;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StrategyFactoryBenchmark {
+
+    @Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+    private BookingState state;
+
+    private StrategyByStateFactory strategyByStateFactory;
+
+    private StrategyByOwnerFactory strategyByOwnerFactory;
+
+    @Setup
+    public void setUp() {
+        strategyByStateFactory = new StrategyByStateFactory(Set.of(
+                new FindByStateAll(null, null),
+                new FindByStateCurrent(null, null),
+                new FindByStatePast(null, null),
+                new FindByStateFuture(null, null),
+                new FindByStateWaiting(null, null),
+                new FindByStateRejected(null, null)));
+        strategyByOwnerFactory = new StrategyByOwnerFactory(Set.of(
+                new FindByOwnerAll(null, null),
+                new FindByOwnerCurrent(null, null),
+                new FindByOwnerPast(null, null),
+                new FindByOwnerFuture(null, null),
+                new FindByOwnerWaiting(null, null),
+                new FindByOwnerRejected(null, null)));
+    }
+
+    @Benchmark
+    public StrategyByState findStrategyByState() {
+        return strategyByStateFactory.findStrategy(state);
+    }
+
+    @Benchmark
+    public StrategyByOwner findStrategyByOwner() {
+        return strategyByOwnerFactory.findStrategy(state);
+    }
+
+}
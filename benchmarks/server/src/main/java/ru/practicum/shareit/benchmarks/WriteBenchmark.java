@@ -0,0 +1,147 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.NewBookingDto;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriteBenchmark {
+
+    private static final int SEED_BOOKINGS = 10000;
+
+    @Param({"100", "1000"})
+    private int batch;
+
+    private ConfigurableApplicationContext context;
+
+    private TransactionTemplate transactionTemplate;
+
+    private UserRepository userRepository;
+
+    private ItemRepository itemRepository;
+
+    private CommentRepository commentRepository;
+
+    private BookingService bookingService;
+
+    private DataSeeder dataSeeder;
+
+    private int counter;
+
+    private LocalDateTime bookingStart;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(ShareItServer.class)
+                .web(WebApplicationType.NONE)
+                .run(BenchmarkDatabase.arguments());
+        dataSeeder = new DataSeeder(context, SEED_BOOKINGS);
+        dataSeeder.seed();
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        userRepository = context.getBean(UserRepository.class);
+        itemRepository = context.getBean(ItemRepository.class);
+        commentRepository = context.getBean(CommentRepository.class);
+        bookingService = context.getBean(BookingService.class);
+        bookingStart = LocalDateTime.now().plusDays(1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<User> saveUsers() {
+        List<User> users = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            int number = counter++;
+            users.add(new User(null, "Writer" + number, "writer" + number + "@email.com"));
+        }
+        return transactionTemplate.execute(status -> userRepository.saveAll(users));
+    }
+
+    @Benchmark
+    public List<Item> saveItems() {
+        int ownerId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status -> {
+            User owner = userRepository.getReferenceById(ownerId);
+            List<Item> items = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                items.add(Item.builder()
+                        .name("Item")
+                        .description("description")
+                        .available(true)
+                        .owner(owner)
+                        .build());
+            }
+            return itemRepository.saveAll(items);
+        });
+    }
+
+    @Benchmark
+    public List<Comment> saveComments() {
+        int authorId = dataSeeder.randomUserId(ThreadLocalRandom.current());
+        int itemId = dataSeeder.randomItemId(ThreadLocalRandom.current());
+        return transactionTemplate.execute(status -> {
+            User author = userRepository.getReferenceById(authorId);
+            Item item = itemRepository.getReferenceById(itemId);
+            List<Comment> comments = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                comments.add(Comment.builder()
+                        .item(item)
+                        .author(author)
+                        .text("comment")
+                        .build());
+            }
+            return commentRepository.saveAll(comments);
+        });
+    }
+
+    @Benchmark
+    public List<BookingBatchResult> saveBookings() {
+        int itemId = dataSeeder.randomAvailableItemId(ThreadLocalRandom.current());
+        int bookerId = dataSeeder.otherUserId(dataSeeder.ownerOf(itemId));
+        List<NewBookingDto> dtos = new ArrayList<>(batch);
+        for (int i = 0; i < batch; i++) {
+            LocalDateTime start = bookingStart.plusHours(i);
+            dtos.add(new NewBookingDto(itemId, start, start.plusMinutes(30)));
+        }
+        return bookingService.saveAll(dtos, bookerId);
+    }
+
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.booking;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+public class ReactiveBookingClient extends ReactiveBaseClient {
+
+    public ReactiveBookingClient(WebClient webClient) {
+        super(webClient);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookings(int userId, BookingState state, Integer from, Integer size, String after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "after", after,
+                    "size", size
+            );
+            return get("?state={state}&after={after}&size={size}", userId, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBookingsByOwner(int userId, BookingState state, Integer from, Integer size, String after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "after", after,
+                    "size", size
+            );
+            return get("/owner?state={state}&after={after}&size={size}", userId, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwner(int userId) {
+        return relay("/owner/export", userId, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> bookItem(int userId, BookItemRequestDto requestDto) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> bookItems(int userId, List<BookItemRequestDto> requestDtos) {
+        return post("/batch", userId, requestDtos);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateItem(int userId, boolean status, Integer bookingId) {
+        Map<String, Object> parameters = Map.of(
+                "bookingId", bookingId,
+                "approved", status
+        );
+        return patch("/{bookingId}?approved={approved}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getBooking(int userId, Integer bookingId) {
+        return get("/" + bookingId, userId);
+    }
+
+}
\ No newline at end of file
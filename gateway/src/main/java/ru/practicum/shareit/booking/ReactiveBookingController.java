@@ -0,0 +1,93 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.booking.dto.BookingState;
+import ru.practicum.shareit.exceptions.exceptions.WrongEnumParameter;
+import ru.practicum.shareit.utils.Constants;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveBookingController {
+
+    private final ReactiveBookingClient bookingClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> bookItem(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                 @RequestBody @Valid BookItemRequestDto requestDto) {
+        log.info("Creating booking {}, userId={}", requestDto, userId);
+        return bookingClient.bookItem(userId, requestDto);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> bookItems(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                  @RequestBody @Size(max = 1000) List<@Valid BookItemRequestDto> requestDtos) {
+        log.info("Creating {} bookings, userId={}", requestDtos.size(), userId);
+        return bookingClient.bookItems(userId, requestDtos);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> updateBooking(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                      @RequestParam(name = "approved") boolean status,
+                                                      @PathVariable Integer bookingId) {
+        log.info("Updating booking {}", status);
+        return bookingClient.updateItem(userId, status, bookingId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getBooking(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                   @PathVariable Integer bookingId) {
+        log.info("Get booking {}, userId={}", bookingId, userId);
+        return bookingClient.getBooking(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getBookings(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                    @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                    @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                    @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                    @RequestParam(name = "after", required = false) String after) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new WrongEnumParameter("Unknown state: " + stateParam));
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size, after);
+        return bookingClient.getBookings(userId, state, from, size, after);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getBookingsByOwner(@RequestHeader(Constants.OWNER_HEADER) int userId,
+                                                           @RequestParam(name = "state", defaultValue = "all") String stateParam,
+                                                           @PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                           @Positive @RequestParam(name = "size", defaultValue = "10") Integer size,
+                                                           @RequestParam(name = "after", required = false) String after) {
+        BookingState state = BookingState.from(stateParam)
+                .orElseThrow(() -> new WrongEnumParameter("Unknown state: " + stateParam));
+        log.info("Get booking with state {}, userId={}, from={}, size={}, after={}", stateParam, userId, from, size, after);
+        return bookingClient.getBookingsByOwner(userId, state, from, size, after);
+    }
+
+    @GetMapping("/owner/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwner(@RequestHeader(Constants.OWNER_HEADER) int userId) {
+        log.info("Export bookings by owner, userId={}", userId);
+        return bookingClient.exportByOwner(userId);
+    }
+
+}
\ No newline at end of file
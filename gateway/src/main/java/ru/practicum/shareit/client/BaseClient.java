@@ -1,22 +1,60 @@
 package ru.practicum.shareit.client;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletResponse;
 
 public class BaseClient {
+    private static final List<String> CONDITIONAL_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
     protected final RestTemplate rest;
 
+    private final boolean passThrough;
+
+    @Nullable
+    private final ResponseCache responseCache;
+
+    private final String family;
+
+    private final Set<String> invalidatedFamilies;
+
     public BaseClient(RestTemplate rest) {
+        this(rest, false);
+    }
+
+    public BaseClient(RestTemplate rest, boolean passThrough) {
+        this(rest, passThrough, null, "");
+    }
+
+    public BaseClient(RestTemplate rest, boolean passThrough, @Nullable ResponseCache responseCache,
+                      String family, String... dependentFamilies) {
         this.rest = rest;
+        this.passThrough = passThrough;
+        this.responseCache = responseCache;
+        this.family = family;
+        Set<String> families = new HashSet<>(List.of(dependentFamilies));
+        families.add(family);
+        this.invalidatedFamilies = Set.copyOf(families);
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -31,6 +69,42 @@ public class BaseClient {
         return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
     }
 
+    protected ResponseEntity<Object> getCached(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        if (responseCache == null) {
+            return get(path, userId, parameters);
+        }
+        String uri = rest.getUriTemplateHandler().expand(path, parameters != null ? parameters : Map.of()).toString();
+        ResponseEntity<Object> response = responseCache.get(family, uri, userId, () -> get(path, userId, parameters));
+        String etag = response.getHeaders().getETag();
+        if (response.getStatusCode().is2xxSuccessful() && etag != null && ifNoneMatchHits(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return response;
+    }
+
+    protected void stream(String path, Integer userId, @Nullable Map<String, Object> parameters, OutputStream outputStream) {
+        HttpHeaders headers = defaultHeaders(userId);
+        rest.execute(path, HttpMethod.GET, request -> request.getHeaders().putAll(headers), response -> {
+            StreamUtils.copy(response.getBody(), outputStream);
+            return null;
+        }, parameters != null ? parameters : Map.of());
+    }
+
+    protected void relay(String path, Integer userId, @Nullable Map<String, Object> parameters,
+                         HttpServletResponse servletResponse) throws IOException {
+        HttpHeaders headers = defaultHeaders(userId);
+        try {
+            rest.execute(path, HttpMethod.GET, request -> request.getHeaders().putAll(headers), response -> {
+                copyResponseHead(response.getRawStatusCode(), response.getHeaders(), servletResponse);
+                StreamUtils.copy(response.getBody(), servletResponse.getOutputStream());
+                return null;
+            }, parameters != null ? parameters : Map.of());
+        } catch (HttpStatusCodeException e) {
+            copyResponseHead(e.getRawStatusCode(), e.getResponseHeaders(), servletResponse);
+            servletResponse.getOutputStream().write(e.getResponseBodyAsByteArray());
+        }
+    }
+
     protected <T> ResponseEntity<Object> post(String path, T body) {
         return post(path, null, null, body);
     }
@@ -80,7 +154,21 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Integer userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        if (responseCache == null || method == HttpMethod.GET) {
+            return sendRequest(method, path, userId, parameters, body);
+        }
+        try {
+            return sendRequest(method, path, userId, parameters, body);
+        } finally {
+            responseCache.invalidate(invalidatedFamilies);
+        }
+    }
+
+    private <T> ResponseEntity<Object> sendRequest(HttpMethod method, String path, Integer userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
         HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        if (passThrough) {
+            return relayRequest(method, path, parameters, requestEntity);
+        }
 
         ResponseEntity<Object> shareitServerResponse;
         try {
@@ -92,9 +180,32 @@ public class BaseClient {
         } catch (HttpStatusCodeException e) {
             return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
         }
+        if (shareitServerResponse.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .headers(ProxyHeaders.endToEnd(shareitServerResponse.getHeaders()))
+                    .build();
+        }
         return prepareGatewayResponse(shareitServerResponse);
     }
 
+    private <T> ResponseEntity<Object> relayRequest(HttpMethod method, String path, @Nullable Map<String, Object> parameters, HttpEntity<T> requestEntity) {
+        ResponseEntity<byte[]> shareitServerResponse;
+        try {
+            if (parameters != null) {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
+            } else {
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
+            }
+        } catch (HttpStatusCodeException e) {
+            return ResponseEntity.status(e.getStatusCode())
+                    .headers(ProxyHeaders.endToEnd(e.getResponseHeaders()))
+                    .body(e.getResponseBodyAsByteArray());
+        }
+        return ResponseEntity.status(shareitServerResponse.getStatusCode())
+                .headers(ProxyHeaders.endToEnd(shareitServerResponse.getHeaders()))
+                .body(shareitServerResponse.getBody());
+    }
+
     private HttpHeaders defaultHeaders(Integer userId) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
@@ -102,9 +213,51 @@ public class BaseClient {
         if (userId != null) {
             headers.set("X-Sharer-User-Id", String.valueOf(userId));
         }
+        for (String conditionalHeader : CONDITIONAL_HEADERS) {
+            String value = incomingHeader(conditionalHeader);
+            if (value != null) {
+                headers.set(conditionalHeader, value);
+            }
+        }
         return headers;
     }
 
+    private static void copyResponseHead(int status, @Nullable HttpHeaders headers, HttpServletResponse servletResponse) {
+        servletResponse.setStatus(status);
+        ProxyHeaders.endToEnd(headers).forEach((name, values) -> values.forEach(value -> servletResponse.addHeader(name, value)));
+    }
+
+    private static boolean ifNoneMatchHits(String etag) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.put(HttpHeaders.IF_NONE_MATCH,
+                Collections.list(((ServletRequestAttributes) attributes).getRequest().getHeaders(HttpHeaders.IF_NONE_MATCH)));
+        List<String> ifNoneMatch;
+        try {
+            ifNoneMatch = headers.getIfNoneMatch();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String opaqueTag = opaqueTag(etag);
+        return ifNoneMatch.stream().anyMatch(tag -> tag.equals("*") || opaqueTag(tag).equals(opaqueTag));
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    @Nullable
+    private static String incomingHeader(String name) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes) {
+            return ((ServletRequestAttributes) attributes).getRequest().getHeader(name);
+        }
+        return null;
+    }
+
     private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
         if (response.getStatusCode().is2xxSuccessful()) {
             return response;
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.client;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+public class ReactiveBaseClient {
+    private static final List<String> CONDITIONAL_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE);
+
+    protected final WebClient webClient;
+
+    public ReactiveBaseClient(WebClient webClient) {
+        this.webClient = webClient;
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, int userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected Flux<DataBuffer> stream(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return Flux.deferContextual(context -> webClient.get()
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> defaultHeaders(headers, userId, context))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class));
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> relay(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return Mono.deferContextual(context -> webClient.get()
+                .uri(path, parameters != null ? parameters : Map.of())
+                .headers(headers -> defaultHeaders(headers, userId, context))
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class)
+                .map(shareitServerResponse -> ResponseEntity.status(shareitServerResponse.getStatusCode())
+                        .headers(ProxyHeaders.endToEnd(shareitServerResponse.getHeaders()))
+                        .body(shareitServerResponse.getBody())));
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, T body) {
+        return post(path, null, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, int userId, T body) {
+        return post(path, userId, null, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, Integer userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, parameters, body);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, Integer userId, @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> patch(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> delete(String path, Integer userId, @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, parameters, null);
+    }
+
+    private <T> Mono<ResponseEntity<byte[]>> makeAndSendRequest(HttpMethod method, String path, Integer userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
+        return Mono.deferContextual(context -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters != null ? parameters : Map.of())
+                    .headers(headers -> defaultHeaders(headers, userId, context));
+            WebClient.RequestHeadersSpec<?> spec = body != null ? request.bodyValue(body) : request;
+            return spec.exchangeToMono(response -> response.toEntity(byte[].class))
+                    .map(shareitServerResponse -> ResponseEntity.status(shareitServerResponse.getStatusCode())
+                            .headers(ProxyHeaders.endToEnd(shareitServerResponse.getHeaders()))
+                            .body(shareitServerResponse.getBody()));
+        });
+    }
+
+    private static void defaultHeaders(HttpHeaders headers, Integer userId, ContextView context) {
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set("X-Sharer-User-Id", String.valueOf(userId));
+        }
+        context.<ServerWebExchange>getOrEmpty(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE)
+                .map(exchange -> exchange.getRequest().getHeaders())
+                .ifPresent(incoming -> {
+                    for (String conditionalHeader : CONDITIONAL_HEADERS) {
+                        List<String> values = incoming.get(conditionalHeader);
+                        if (values != null) {
+                            headers.put(conditionalHeader, values);
+                        }
+                    }
+                });
+    }
+}
@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.Value;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Кэш ответов сервера на GET запросы. Ключ - семейство ресурсов (items, users, ...), URI запроса и пользователь
+ * из заголовка X-Sharer-User-Id. Изменяющий запрос сбрасывает все записи семейства, поколение семейства не дает
+ * записать в кэш ответ, полученный до сброса.
+ */
+public class ResponseCache implements MeterBinder {
+
+    private static final String CACHE_NAME = "shareit-server-responses";
+
+    private final Cache<Key, ResponseEntity<Object>> cache;
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getTimeToLive())
+                .recordStats()
+                .build();
+    }
+
+    public ResponseEntity<Object> get(String family, String uri, Integer userId,
+                                      Supplier<ResponseEntity<Object>> loader) {
+        Key key = new Key(family, uri, userId);
+        ResponseEntity<Object> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        long generation = generation(family).get();
+        ResponseEntity<Object> response = loader.get();
+        if (response.getStatusCode().is2xxSuccessful() && generation(family).get() == generation) {
+            cache.put(key, response);
+            if (generation(family).get() != generation) {
+                cache.invalidate(key);
+            }
+        }
+        return response;
+    }
+
+    public void invalidate(Collection<String> families) {
+        families.forEach(family -> generation(family).incrementAndGet());
+        cache.asMap().keySet().removeIf(key -> families.contains(key.getFamily()));
+    }
+
+    public long size() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(cache, CACHE_NAME, Tags.empty()).bindTo(registry);
+    }
+
+    private AtomicLong generation(String family) {
+        return generations.computeIfAbsent(family, f -> new AtomicLong());
+    }
+
+    @Value
+    private static class Key {
+        String family;
+        String uri;
+        Integer userId;
+    }
+
+}
@@ -9,11 +9,13 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import ru.practicum.shareit.exceptions.exceptions.*;
 
+import javax.validation.ConstraintViolationException;
+
 @RestControllerAdvice
 @Slf4j
 public class ErrorHandler {
 
-    @ExceptionHandler({WrongEnumParameter.class})
+    @ExceptionHandler({WrongEnumParameter.class, ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse wrongEnumParameter(RuntimeException exception) {
         return sendErrorResponse(exception.getMessage());
@@ -3,15 +3,18 @@ package ru.practicum.shareit.item;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.Map;
 
 public class ItemClient extends BaseClient {
 
-    public ItemClient(RestTemplate rest) {
-        super(rest);
+    public ItemClient(RestTemplate rest, boolean passThrough, ResponseCache responseCache) {
+        super(rest, passThrough, responseCache, "items", "requests");
     }
 
     public ResponseEntity<Object> save(int ownerId, ItemDto itemDto) {
@@ -26,11 +29,15 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", ownerId, parameters);
     }
 
+    public void exportByOwner(int ownerId, HttpServletResponse response) throws IOException {
+        relay("/export", ownerId, null, response);
+    }
+
     public ResponseEntity<Object> findById(int id, int ownerId) {
         Map<String, Object> parameters = Map.of(
                 "id", id
         );
-        return get("/{id}", ownerId, parameters);
+        return getCached("/{id}", ownerId, parameters);
     }
 
     public ResponseEntity<Object> findByName(int ownerId, String text, Integer from, Integer size) {
@@ -39,7 +46,7 @@ public class ItemClient extends BaseClient {
                 "from", from,
                 "size", size
         );
-        return get("/search?text={text}&from={from}&size={size}", ownerId, parameters);
+        return getCached("/search?text={text}&from={from}&size={size}", ownerId, parameters);
     }
 
     public ResponseEntity<Object> deleteById(int userId, int id) {
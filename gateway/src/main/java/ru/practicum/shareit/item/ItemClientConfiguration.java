@@ -1,10 +1,16 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.HttpClientProperties;
+import ru.practicum.shareit.client.ResponseCache;
 
 @Configuration
 public class ItemClientConfiguration {
@@ -16,11 +22,24 @@ public class ItemClientConfiguration {
     private String api;
 
     @Bean
-    public ItemClient itemClient(RestTemplateBuilder builder) {
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ItemClient itemClient(RestTemplateBuilder builder, ClientHttpRequestFactory shareItRequestFactory,
+                                 HttpClientProperties properties, ResponseCache shareItResponseCache) {
         var restTemplate = builder
                 .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + api))
+                .requestFactory(() -> shareItRequestFactory)
                 .build();
-        return new ItemClient(restTemplate);
+        return new ItemClient(restTemplate, properties.isPassThrough(), shareItResponseCache);
+    }
+
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveItemClient reactiveItemClient(WebClient.Builder builder, ClientHttpConnector shareItClientConnector) {
+        var webClient = builder
+                .baseUrl(serverUrl + api)
+                .clientConnector(shareItClientConnector)
+                .build();
+        return new ReactiveItemClient(webClient);
     }
 
 }
\ No newline at end of file
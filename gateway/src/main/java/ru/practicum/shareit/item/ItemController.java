@@ -2,6 +2,7 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
@@ -10,11 +11,14 @@ import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.utils.Constants;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.IOException;
 
 @Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/items")
 @RequiredArgsConstructor
 @Slf4j
@@ -38,6 +42,13 @@ public class ItemController {
         return itemClient.findAllByUserID(ownerId, from, size);
     }
 
+    @GetMapping("/export")
+    public void exportByOwner(@RequestHeader(Constants.OWNER_HEADER) int ownerId,
+                              HttpServletResponse response) throws IOException {
+        log.info("Export items userId={}", ownerId);
+        itemClient.exportByOwner(ownerId, response);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Object> findById(@PathVariable int id,
                                            @RequestHeader(Constants.OWNER_HEADER) int ownerId) {
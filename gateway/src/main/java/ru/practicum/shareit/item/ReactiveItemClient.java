@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReactiveItemClient extends ReactiveBaseClient {
+
+    public ReactiveItemClient(WebClient webClient) {
+        super(webClient);
+    }
+
+    public Mono<ResponseEntity<byte[]>> save(int ownerId, ItemDto itemDto) {
+        return post("", ownerId, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findAllByUserID(int ownerId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportByOwner(int ownerId) {
+        return relay("/export", ownerId, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findById(int id, int ownerId) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return get("/{id}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findByName(int ownerId, String text, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> deleteById(int userId, int id) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return delete("/{id}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateById(int ownerId, int id, ItemDto itemDto) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return patch("/{id}", ownerId, parameters, itemDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> saveComment(int userId, int itemId, CommentDto dto) {
+        Map<String, Object> parameters = Map.of(
+                "itemId", itemId
+        );
+        return post("/{itemId}/comment", userId, parameters, dto);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.request;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReactiveRequestClient extends ReactiveBaseClient {
+
+    public ReactiveRequestClient(WebClient webClient) {
+        super(webClient);
+    }
+
+    public Mono<ResponseEntity<byte[]>> save(ItemRequestDto dto, int ownerId) {
+        return post("", ownerId, dto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findAll(int ownerId) {
+        return get("", ownerId);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findAllByUserId(int ownerId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("/all?from={from}&size={size}", ownerId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findById(int ownerId, Integer requestId) {
+        Map<String, Object> parameters = Map.of(
+                "requestId", requestId
+        );
+        return get("/{requestId}", ownerId, parameters);
+    }
+
+}
\ No newline at end of file
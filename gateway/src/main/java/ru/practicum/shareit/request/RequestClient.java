@@ -3,14 +3,15 @@ package ru.practicum.shareit.request;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.Map;
 
 public class RequestClient extends BaseClient {
 
-    public RequestClient(RestTemplate rest) {
-        super(rest);
+    public RequestClient(RestTemplate rest, boolean passThrough, ResponseCache responseCache) {
+        super(rest, passThrough, responseCache, "requests");
     }
 
     public ResponseEntity<Object> save(ItemRequestDto dto, int ownerId) {
@@ -26,7 +27,7 @@ public class RequestClient extends BaseClient {
                 "from", from,
                 "size", size
         );
-        return get("/all?from={from}&size={size}", ownerId, parameters);
+        return getCached("/all?from={from}&size={size}", ownerId, parameters);
     }
 
     public ResponseEntity<Object> findById(int ownerId, Integer requestId) {
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.user;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.user.dto.UserDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public class ReactiveUserClient extends ReactiveBaseClient {
+
+    public ReactiveUserClient(WebClient webClient) {
+        super(webClient);
+    }
+
+    public Mono<ResponseEntity<byte[]>> save(UserDto user) {
+        return post("", user);
+    }
+
+    public Flux<DataBuffer> streamAll() {
+        return stream("", null, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findAll(Integer from, Integer size, @Nullable Integer after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "after", after,
+                    "size", size
+            );
+            return get("?after={after}&size={size}", null, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> findById(int id) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return get("/{id}", id, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> removeById(int id) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return delete("/{id}", id, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateById(int id, UserDto user) {
+        Map<String, Object> parameters = Map.of(
+                "id", id
+        );
+        return patch("/{id}", id, parameters, user);
+    }
+
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.user.dto.UserDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@Controller
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> save(@RequestBody @Valid UserDto user) {
+        return userClient.save(user);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseBody
+    public Flux<DataBuffer> findAll() {
+        return userClient.streamAll();
+    }
+
+    @GetMapping(params = "size")
+    public Mono<ResponseEntity<byte[]>> findAll(@PositiveOrZero @RequestParam(name = "from", defaultValue = "0") Integer from,
+                                                @Positive @RequestParam(name = "size") Integer size,
+                                                @RequestParam(name = "after", required = false) Integer after) {
+        return userClient.findAll(from, size, after);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> findById(@PathVariable int id) {
+        return userClient.findById(id);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> removeById(@PathVariable int id) {
+        return userClient.removeById(id);
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<byte[]>> updateById(@PathVariable int id,
+                                             @RequestBody UserDto user) {
+        if (user.getName() != null && user.getName().isBlank()) {
+            throw new IllegalArgumentException("Имя пользователя не может быть пустым.");
+        }
+        if (user.getEmail() != null && user.getEmail().isBlank()) {
+            throw new IllegalArgumentException("Почта пользователя не может быть пустой.");
+        }
+        return userClient.updateById(id, user);
+    }
+
+}
\ No newline at end of file
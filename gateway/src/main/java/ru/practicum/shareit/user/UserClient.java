@@ -1,31 +1,49 @@
 package ru.practicum.shareit.user;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
 import org.springframework.web.client.RestTemplate;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.OutputStream;
 import java.util.Map;
 
 public class UserClient extends BaseClient {
 
-    public UserClient(RestTemplate rest) {
-        super(rest);
+    public UserClient(RestTemplate rest, boolean passThrough, ResponseCache responseCache) {
+        super(rest, passThrough, responseCache, "users", "items");
     }
 
     public ResponseEntity<Object> save(UserDto user) {
         return post("", user);
     }
 
-    public ResponseEntity<Object> findAll() {
-        return get("");
+    public void streamAll(OutputStream outputStream) {
+        stream("", null, null, outputStream);
+    }
+
+    public ResponseEntity<Object> findAll(Integer from, Integer size, @Nullable Integer after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "after", after,
+                    "size", size
+            );
+            return get("?after={after}&size={size}", null, parameters);
+        }
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", null, parameters);
     }
 
     public ResponseEntity<Object> findById(int id) {
         Map<String, Object> parameters = Map.of(
                 "id", id
         );
-        return get("/{id}", id, parameters);
+        return getCached("/{id}", id, parameters);
     }
 
     public ResponseEntity<Object> removeById(int id) {
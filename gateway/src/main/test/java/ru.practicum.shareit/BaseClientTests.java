@@ -0,0 +1,155 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.user.UserClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class BaseClientTests {
+
+    private static final String USERS = "[{\"id\":1,\"name\":\"User1\",\"email\":\"email1@email.com\"}]";
+
+    private final RestTemplate rest = new RestTemplate();
+
+    private final MockRestServiceServer server;
+
+    BaseClientTests() {
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/users"));
+        server = MockRestServiceServer.bindTo(rest).build();
+    }
+
+    @Test
+    void passThroughRelaysBytesAndHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        headers.set("X-Next-Cursor", "cursor");
+        server.expect(requestTo("http://localhost:9090/users?from=0&size=10"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USERS, MediaType.APPLICATION_JSON).headers(headers));
+        ResponseEntity<Object> response = new UserClient(rest, true, null).findAll(0, 10, null);
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertArrayEquals(USERS.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertEquals("cursor", response.getHeaders().getFirst("X-Next-Cursor"));
+        Assertions.assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+    }
+
+    @Test
+    void passThroughRelaysErrors() {
+        String error = "{\"error\":\"Пользователь с ID 99 не найден.\"}";
+        server.expect(requestTo("http://localhost:9090/users/99"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(error.getBytes(StandardCharsets.UTF_8)));
+        ResponseEntity<Object> response = new UserClient(rest, true, null).findById(99);
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        Assertions.assertArrayEquals(error.getBytes(StandardCharsets.UTF_8), (byte[]) response.getBody());
+    }
+
+    @Test
+    void objectModeDeserializesBody() {
+        server.expect(requestTo("http://localhost:9090/users?after=1&size=10"))
+                .andRespond(withSuccess(USERS, MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> response = new UserClient(rest, false, null).findAll(0, 10, 1);
+        Assertions.assertEquals(Map.of("id", 1, "name", "User1", "email", "email1@email.com"),
+                ((List<?>) response.getBody()).get(0));
+    }
+
+    @Test
+    void streamCopiesBodyToOutput() {
+        server.expect(requestTo("http://localhost:9090/users"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USERS, MediaType.APPLICATION_JSON));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        new UserClient(rest, true, null).streamAll(outputStream);
+        Assertions.assertArrayEquals(USERS.getBytes(StandardCharsets.UTF_8), outputStream.toByteArray());
+        server.verify();
+    }
+
+    @Test
+    void relayCopiesStatusHeadersAndBody() throws IOException {
+        String items = "{\"id\":1,\"name\":\"Item1\"}\n{\"id\":2,\"name\":\"Item2\"}\n";
+        RestTemplate itemsRest = new RestTemplate();
+        itemsRest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/items"));
+        MockRestServiceServer itemsServer = MockRestServiceServer.bindTo(itemsRest).build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        itemsServer.expect(requestTo("http://localhost:9090/items/export"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(items, MediaType.APPLICATION_NDJSON).headers(headers));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ItemClient(itemsRest, false, null).exportByOwner(1, response);
+        Assertions.assertEquals(HttpStatus.OK.value(), response.getStatus());
+        Assertions.assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        Assertions.assertNull(response.getHeader(HttpHeaders.CONNECTION));
+        Assertions.assertEquals(items, response.getContentAsString(StandardCharsets.UTF_8));
+        itemsServer.verify();
+    }
+
+    @Test
+    void relayCopiesErrors() throws IOException {
+        String error = "{\"error\":\"Пользователь с ID 99 не найден.\"}";
+        RestTemplate itemsRest = new RestTemplate();
+        itemsRest.setUriTemplateHandler(new DefaultUriBuilderFactory("http://localhost:9090/items"));
+        MockRestServiceServer itemsServer = MockRestServiceServer.bindTo(itemsRest).build();
+        itemsServer.expect(requestTo("http://localhost:9090/items/export"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND).contentType(MediaType.APPLICATION_JSON).body(error));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new ItemClient(itemsRest, false, null).exportByOwner(99, response);
+        Assertions.assertEquals(HttpStatus.NOT_FOUND.value(), response.getStatus());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        Assertions.assertEquals(error, response.getContentAsString(StandardCharsets.UTF_8));
+        itemsServer.verify();
+    }
+
+    @Test
+    void conditionalHeadersAreForwardedAndNotModifiedIsPreserved() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"user-1\"");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag("\"user-1\"");
+            server.expect(ExpectedCount.twice(), requestTo("http://localhost:9090/users/1"))
+                    .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"user-1\""))
+                    .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(headers));
+            for (boolean passThrough : new boolean[]{true, false}) {
+                ResponseEntity<Object> response = new UserClient(rest, passThrough, null).findById(1);
+                Assertions.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+                Assertions.assertEquals("\"user-1\"", response.getHeaders().getETag());
+                Assertions.assertNull(response.getBody());
+            }
+            server.verify();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+    }
+
+}
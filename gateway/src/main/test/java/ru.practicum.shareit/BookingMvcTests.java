@@ -0,0 +1,65 @@
+package ru.practicum.shareit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.BookingClient;
+import ru.practicum.shareit.booking.BookingController;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = BookingController.class)
+class BookingMvcTests {
+
+    @Autowired
+    ObjectMapper mapper;
+
+    @MockBean
+    private BookingClient bookingClient;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    void bookItemsWrongElement() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookItemRequestDto> dtos = List.of(
+                new BookItemRequestDto(1, start, start.plusDays(1)),
+                new BookItemRequestDto(1, start.minusDays(2), start.plusDays(1)));
+        mvc.perform(post("/bookings/batch")
+                        .content(mapper.writeValueAsString(dtos))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void bookItemsTooMany() throws Exception {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<BookItemRequestDto> dtos = Collections.nCopies(1001, new BookItemRequestDto(1, start, start.plusDays(1)));
+        mvc.perform(post("/bookings/batch")
+                        .content(mapper.writeValueAsString(dtos))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+}
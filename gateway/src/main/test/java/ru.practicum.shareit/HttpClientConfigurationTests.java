@@ -0,0 +1,34 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {"shareit-server.http-client.max-total=50", "shareit-server.http-client.max-per-route=7"})
+class HttpClientConfigurationTests {
+
+    @Autowired
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void connectionPoolUsesProperties() {
+        Assertions.assertEquals(50, connectionManager.getMaxTotal());
+        Assertions.assertEquals(7, connectionManager.getDefaultMaxPerRoute());
+    }
+
+    @Test
+    void connectionPoolMetricsAreRegistered() {
+        Assertions.assertEquals(50, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", "shareit-server")
+                .gauge()
+                .value());
+    }
+
+}
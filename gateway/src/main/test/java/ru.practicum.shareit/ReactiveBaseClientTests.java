@@ -0,0 +1,137 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.filter.reactive.ServerWebExchangeContextFilter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import ru.practicum.shareit.item.ReactiveItemClient;
+import ru.practicum.shareit.user.ReactiveUserClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+class ReactiveBaseClientTests {
+
+    private static final String USERS = "[{\"id\":1,\"name\":\"User1\",\"email\":\"email1@email.com\"}]";
+
+    private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+    private ReactiveUserClient client(ClientResponse response) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:9090/users")
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(response);
+                })
+                .build();
+        return new ReactiveUserClient(webClient);
+    }
+
+    @Test
+    void relaysBytesAndHeaders() {
+        ClientResponse response = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .header("X-Next-Cursor", "cursor")
+                .body(USERS)
+                .build();
+        ResponseEntity<byte[]> result = client(response).findAll(0, 10, null).block();
+        Assertions.assertEquals(HttpMethod.GET, lastRequest.get().method());
+        Assertions.assertEquals("http://localhost:9090/users?from=0&size=10", lastRequest.get().url().toString());
+        Assertions.assertEquals(HttpStatus.OK, result.getStatusCode());
+        Assertions.assertArrayEquals(USERS.getBytes(StandardCharsets.UTF_8), result.getBody());
+        Assertions.assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        Assertions.assertEquals("cursor", result.getHeaders().getFirst("X-Next-Cursor"));
+        Assertions.assertFalse(result.getHeaders().containsKey(HttpHeaders.CONNECTION));
+    }
+
+    @Test
+    void relaysErrors() {
+        String error = "{\"error\":\"Пользователь с ID 99 не найден.\"}";
+        ClientResponse response = ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(error)
+                .build();
+        ResponseEntity<byte[]> result = client(response).findById(99).block();
+        Assertions.assertEquals("http://localhost:9090/users/99", lastRequest.get().url().toString());
+        Assertions.assertEquals("99", lastRequest.get().headers().getFirst("X-Sharer-User-Id"));
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, result.getStatusCode());
+        Assertions.assertArrayEquals(error.getBytes(StandardCharsets.UTF_8), result.getBody());
+    }
+
+    @Test
+    void conditionalHeadersAreForwardedAndNotModifiedIsPreserved() {
+        ClientResponse response = ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, "\"user-1\"")
+                .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"user-1\"")
+                .header(HttpHeaders.IF_MODIFIED_SINCE, "Wed, 21 Oct 2015 07:28:00 GMT"));
+        ResponseEntity<byte[]> result = client(response).findById(1)
+                .contextWrite(Context.of(ServerWebExchangeContextFilter.EXCHANGE_CONTEXT_ATTRIBUTE, exchange))
+                .block();
+        Assertions.assertEquals("\"user-1\"", lastRequest.get().headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        Assertions.assertEquals("Wed, 21 Oct 2015 07:28:00 GMT",
+                lastRequest.get().headers().getFirst(HttpHeaders.IF_MODIFIED_SINCE));
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, result.getStatusCode());
+        Assertions.assertEquals("\"user-1\"", result.getHeaders().getETag());
+    }
+
+    @Test
+    void relayStreamsBodyWithStatusAndHeaders() {
+        String items = "{\"id\":1,\"name\":\"Item1\"}\n{\"id\":2,\"name\":\"Item2\"}\n";
+        assertRelayed(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_NDJSON_VALUE)
+                .header(HttpHeaders.CONNECTION, "keep-alive")
+                .body(items)
+                .build(), HttpStatus.OK, MediaType.APPLICATION_NDJSON, items);
+    }
+
+    @Test
+    void relayKeepsErrorStatus() {
+        String error = "{\"error\":\"Пользователь с ID 99 не найден.\"}";
+        assertRelayed(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(error)
+                .build(), HttpStatus.NOT_FOUND, MediaType.APPLICATION_JSON, error);
+    }
+
+    private void assertRelayed(ClientResponse response, HttpStatus status, MediaType contentType, String body) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:9090/items")
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(response);
+                })
+                .build();
+        ResponseEntity<Flux<DataBuffer>> result = new ReactiveItemClient(webClient).exportByOwner(1).block();
+        Assertions.assertEquals("http://localhost:9090/items/export", lastRequest.get().url().toString());
+        Assertions.assertEquals("1", lastRequest.get().headers().getFirst("X-Sharer-User-Id"));
+        Assertions.assertEquals(status, result.getStatusCode());
+        Assertions.assertEquals(contentType, result.getHeaders().getContentType());
+        Assertions.assertFalse(result.getHeaders().containsKey(HttpHeaders.CONNECTION));
+        String relayed = DataBufferUtils.join(result.getBody())
+                .map(buffer -> {
+                    String text = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return text;
+                })
+                .block();
+        Assertions.assertEquals(body, relayed);
+    }
+
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.booking.ReactiveBookingController;
+import ru.practicum.shareit.booking.dto.BookItemRequestDto;
+import ru.practicum.shareit.user.ReactiveUserClient;
+import ru.practicum.shareit.user.ReactiveUserController;
+import ru.practicum.shareit.user.dto.UserDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+@WebFluxTest(controllers = {ReactiveUserController.class, ReactiveBookingController.class})
+class ReactiveControllerTests {
+
+    private static final String USER = "{\"id\":1,\"name\":\"User1\",\"email\":\"email1@email.com\"}";
+
+    @MockBean
+    private ReactiveUserClient userClient;
+
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Test
+    void saveNewUserWrongEmail() {
+        webClient.post()
+                .uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto("user1", "email"))
+                .exchange()
+                .expectStatus().isBadRequest();
+        Mockito.verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void findUserRelaysServerResponse() {
+        Mockito.when(userClient.findById(1))
+                .thenReturn(Mono.just(ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(USER.getBytes(StandardCharsets.UTF_8))));
+        webClient.get()
+                .uri("/users/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json(USER);
+    }
+
+    @Test
+    void findAllUsersStreamsServerBody() {
+        Mockito.when(userClient.streamAll())
+                .thenReturn(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(("[" + USER + "]").getBytes(StandardCharsets.UTF_8))));
+        webClient.get()
+                .uri("/users")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().json("[" + USER + "]");
+    }
+
+    @Test
+    void getBookingsWrongState() {
+        webClient.get()
+                .uri("/bookings?state=UNSUPPORTED")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED");
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void bookItemsWrongElement() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        webClient.post()
+                .uri("/bookings/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(List.of(
+                        new BookItemRequestDto(1, start, start.plusDays(1)),
+                        new BookItemRequestDto(1, start.minusDays(2), start.plusDays(1))))
+                .exchange()
+                .expectStatus().isBadRequest();
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void bookItemsTooMany() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        webClient.post()
+                .uri("/bookings/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Collections.nCopies(1001, new BookItemRequestDto(1, start, start.plusDays(1))))
+                .exchange()
+                .expectStatus().isBadRequest();
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+}
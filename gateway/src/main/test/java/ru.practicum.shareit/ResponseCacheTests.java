@@ -0,0 +1,202 @@
+package ru.practicum.shareit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.client.ResponseCacheProperties;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class ResponseCacheTests {
+
+    private static final String USER = "{\"id\":1,\"name\":\"User1\",\"email\":\"email1@email.com\"}";
+
+    private static final String ITEM = "{\"id\":1,\"name\":\"Item1\",\"description\":\"Description1\",\"available\":true}";
+
+    private final ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties());
+
+    private final RestTemplate userRest = restTemplate("http://localhost:9090/users");
+
+    private final RestTemplate itemRest = restTemplate("http://localhost:9090/items");
+
+    private final MockRestServiceServer userServer = MockRestServiceServer.bindTo(userRest).build();
+
+    private final MockRestServiceServer itemServer = MockRestServiceServer.bindTo(itemRest).build();
+
+    private final UserClient userClient = new UserClient(userRest, true, responseCache);
+
+    private final ItemClient itemClient = new ItemClient(itemRest, true, responseCache);
+
+    @Test
+    void repeatedGetIsServedFromCache() {
+        userServer.expect(ExpectedCount.once(), requestTo("http://localhost:9090/users/1"))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        ResponseEntity<Object> first = userClient.findById(1);
+        ResponseEntity<Object> second = userClient.findById(1);
+        userServer.verify();
+        Assertions.assertSame(first, second);
+    }
+
+    @Test
+    void cacheIsScopedByUser() {
+        itemServer.expect(requestTo("http://localhost:9090/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withSuccess(ITEM, MediaType.APPLICATION_JSON));
+        itemServer.expect(requestTo("http://localhost:9090/items/1"))
+                .andExpect(header("X-Sharer-User-Id", "2"))
+                .andRespond(withSuccess(ITEM, MediaType.APPLICATION_JSON));
+        itemClient.findById(1, 1);
+        itemClient.findById(1, 2);
+        itemClient.findById(1, 1);
+        itemServer.verify();
+    }
+
+    @Test
+    void updateInvalidatesFamily() {
+        userServer.expect(ExpectedCount.twice(), requestTo("http://localhost:9090/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        userClient.findById(1);
+        userServer.reset();
+        userServer.expect(requestTo("http://localhost:9090/users/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        userServer.expect(requestTo("http://localhost:9090/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        userClient.updateById(1, new UserDto("User2", null));
+        userClient.findById(1);
+        userServer.verify();
+    }
+
+    @Test
+    void userUpdateInvalidatesItems() {
+        itemServer.expect(ExpectedCount.twice(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withSuccess(ITEM, MediaType.APPLICATION_JSON));
+        userServer.expect(requestTo("http://localhost:9090/users/1"))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        itemClient.findById(1, 1);
+        userClient.updateById(1, new UserDto("User2", null));
+        itemClient.findById(1, 1);
+        itemServer.verify();
+        userServer.verify();
+    }
+
+    @Test
+    void errorsAreNotCached() {
+        itemServer.expect(ExpectedCount.twice(), requestTo("http://localhost:9090/items/99"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND));
+        itemClient.findById(99, 1);
+        itemClient.findById(99, 1);
+        itemServer.verify();
+    }
+
+    @Test
+    void responseLoadedBeforeInvalidationIsNotCached() {
+        ResponseEntity<Object> response = responseCache.get("items", "/items/1", 1, () -> {
+            responseCache.invalidate(Set.of("items"));
+            return ResponseEntity.ok(List.of(new ItemDto("Item1", "Description1", true, null)));
+        });
+        Assertions.assertEquals(HttpStatus.OK, response.getStatusCode());
+        Assertions.assertEquals(0, responseCache.size());
+    }
+
+    @Test
+    void hitsAndMissesAreMeasured() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        responseCache.bindTo(registry);
+        userServer.expect(requestTo("http://localhost:9090/users/1"))
+                .andRespond(withSuccess(USER, MediaType.APPLICATION_JSON));
+        userClient.findById(1);
+        userClient.findById(1);
+        Assertions.assertEquals(1, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, registry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void cachedResponseMatchingIfNoneMatchIsNotModified() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"item-1-0-0\"");
+        itemServer.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withSuccess(ITEM, MediaType.APPLICATION_JSON).headers(headers));
+        itemClient.findById(1, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"item-1-0-0\"");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            ResponseEntity<Object> response = itemClient.findById(1, 1);
+            Assertions.assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+            Assertions.assertEquals("\"item-1-0-0\"", response.getHeaders().getETag());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        itemServer.verify();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"item-1-0-0\"", "\"item-1-0-1\", \"item-1-0-0\"", "W/\"item-1-0-0\"", "*"})
+    void cachedResponseMatchingEntityTagListIsNotModified(String ifNoneMatch) {
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, findCachedItem("\"item-1-0-0\"", ifNoneMatch).getStatusCode());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"\"item-1-0-1\"", "\"item-1-0-1\", W/\"item-1-0-2\"", "\"item-1-0-0-1\"", "item-1-0-0"})
+    void cachedResponseNotMatchingEntityTagListIsReturned(String ifNoneMatch) {
+        Assertions.assertEquals(HttpStatus.OK, findCachedItem("\"item-1-0-0\"", ifNoneMatch).getStatusCode());
+    }
+
+    @Test
+    void weakCachedEtagMatchesStrongIfNoneMatch() {
+        Assertions.assertEquals(HttpStatus.NOT_MODIFIED, findCachedItem("W/\"item-1-0-0\"", "\"item-1-0-0\"").getStatusCode());
+    }
+
+    private ResponseEntity<Object> findCachedItem(String etag, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        itemServer.expect(ExpectedCount.once(), requestTo("http://localhost:9090/items/1"))
+                .andRespond(withSuccess(ITEM, MediaType.APPLICATION_JSON).headers(headers));
+        itemClient.findById(1, 1);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            return itemClient.findById(1, 1);
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            itemServer.verify();
+        }
+    }
+
+    private static RestTemplate restTemplate(String url) {
+        RestTemplate rest = new RestTemplate();
+        rest.setUriTemplateHandler(new DefaultUriBuilderFactory(url));
+        return rest;
+    }
+
+}
@@ -0,0 +1,231 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.booking.dto.ApprovedBookingView;
+import ru.practicum.shareit.booking.dto.BookingDtoShort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Stream;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ApprovedBookingIndex {
+
+    private static final int STRIPES = 1 << 10;
+
+    private final BookingRepository bookingRepository;
+
+    private final Map<Integer, ItemBookings> bookingsByItem = new ConcurrentHashMap<>();
+
+    private final AtomicLongArray modifications = new AtomicLongArray(STRIPES);
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        long[] stamps = stamps();
+        int loaded = 0;
+        try (Stream<ApprovedBookingView> bookings = bookingRepository.streamRelevantApproved(LocalDateTime.now())) {
+            Iterator<ApprovedBookingView> iterator = bookings.iterator();
+            List<ApprovedBookingView> itemBookings = new ArrayList<>();
+            while (iterator.hasNext()) {
+                ApprovedBookingView booking = iterator.next();
+                if (!itemBookings.isEmpty() && !itemBookings.get(0).getItemId().equals(booking.getItemId())) {
+                    loaded += putIfUnchanged(itemBookings.get(0).getItemId(), itemBookings, stamps) ? 1 : 0;
+                    itemBookings.clear();
+                }
+                itemBookings.add(booking);
+            }
+            if (!itemBookings.isEmpty()) {
+                loaded += putIfUnchanged(itemBookings.get(0).getItemId(), itemBookings, stamps) ? 1 : 0;
+            }
+        }
+        log.info("Загружены подтвержденные бронирования для {} вещей.", loaded);
+    }
+
+    public boolean contains(int itemId) {
+        return bookingsByItem.containsKey(itemId);
+    }
+
+    public BookingDtoShort findNext(int itemId, LocalDateTime time) {
+        ItemBookings bookings = bookingsByItem.get(itemId);
+        return bookings == null ? null : bookings.next(time);
+    }
+
+    public BookingDtoShort findLast(int itemId, LocalDateTime time) {
+        ItemBookings bookings = bookingsByItem.get(itemId);
+        return bookings == null ? null : bookings.last(time);
+    }
+
+    public void load(Collection<Integer> itemIds) {
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        long[] stamps = stamps();
+        Map<Integer, List<ApprovedBookingView>> approved = new HashMap<>();
+        itemIds.forEach(itemId -> approved.put(itemId, new ArrayList<>()));
+        for (ApprovedBookingView booking : bookingRepository.findRelevantApprovedByItemIds(itemIds, LocalDateTime.now())) {
+            approved.get(booking.getItemId()).add(booking);
+        }
+        approved.forEach((itemId, bookings) -> putIfUnchanged(itemId, bookings, stamps));
+    }
+
+    public void add(Booking booking) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    addApproved(booking);
+                }
+            });
+        } else {
+            addApproved(booking);
+        }
+    }
+
+    public synchronized void clear() {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            modifications.incrementAndGet(stripe);
+        }
+        bookingsByItem.clear();
+    }
+
+    private long[] stamps() {
+        long[] stamps = new long[STRIPES];
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            stamps[stripe] = modifications.get(stripe);
+        }
+        return stamps;
+    }
+
+    private static int stripe(int itemId) {
+        return itemId & (STRIPES - 1);
+    }
+
+    private synchronized boolean putIfUnchanged(int itemId, List<ApprovedBookingView> bookings, long[] stamps) {
+        int stripe = stripe(itemId);
+        if (modifications.get(stripe) != stamps[stripe]) {
+            return false;
+        }
+        bookingsByItem.putIfAbsent(itemId, ItemBookings.of(bookings));
+        return true;
+    }
+
+    private synchronized void addApproved(Booking booking) {
+        int itemId = booking.getItem().getId();
+        modifications.incrementAndGet(stripe(itemId));
+        LocalDateTime now = LocalDateTime.now();
+        bookingsByItem.computeIfPresent(itemId, (id, bookings) -> bookings.with(booking).withoutExpired(now));
+    }
+
+    private static final class ItemBookings {
+
+        private final LocalDateTime[] starts;
+
+        private final int[] ids;
+
+        private final int[] bookerIds;
+
+        private ItemBookings(LocalDateTime[] starts, int[] ids, int[] bookerIds) {
+            this.starts = starts;
+            this.ids = ids;
+            this.bookerIds = bookerIds;
+        }
+
+        private static ItemBookings of(List<ApprovedBookingView> bookings) {
+            LocalDateTime[] starts = new LocalDateTime[bookings.size()];
+            int[] ids = new int[bookings.size()];
+            int[] bookerIds = new int[bookings.size()];
+            for (int i = 0; i < bookings.size(); i++) {
+                ApprovedBookingView booking = bookings.get(i);
+                starts[i] = booking.getStart();
+                ids[i] = booking.getId();
+                bookerIds[i] = booking.getBookerId();
+            }
+            return new ItemBookings(starts, ids, bookerIds);
+        }
+
+        private BookingDtoShort next(LocalDateTime time) {
+            int index = firstStartAfter(time, false);
+            return index < starts.length ? toDtoShort(index) : null;
+        }
+
+        private BookingDtoShort last(LocalDateTime time) {
+            int index = firstStartAfter(time, true) - 1;
+            return index >= 0 ? toDtoShort(index) : null;
+        }
+
+        private ItemBookings with(Booking booking) {
+            for (int id : ids) {
+                if (id == booking.getId()) {
+                    return this;
+                }
+            }
+            int position = firstStartAfter(booking.getStart(), false);
+            int size = starts.length + 1;
+            LocalDateTime[] newStarts = new LocalDateTime[size];
+            int[] newIds = new int[size];
+            int[] newBookerIds = new int[size];
+            System.arraycopy(starts, 0, newStarts, 0, position);
+            System.arraycopy(ids, 0, newIds, 0, position);
+            System.arraycopy(bookerIds, 0, newBookerIds, 0, position);
+            newStarts[position] = booking.getStart();
+            newIds[position] = booking.getId();
+            newBookerIds[position] = booking.getBooker().getId();
+            System.arraycopy(starts, position, newStarts, position + 1, starts.length - position);
+            System.arraycopy(ids, position, newIds, position + 1, ids.length - position);
+            System.arraycopy(bookerIds, position, newBookerIds, position + 1, bookerIds.length - position);
+            return new ItemBookings(newStarts, newIds, newBookerIds);
+        }
+
+        private ItemBookings withoutExpired(LocalDateTime time) {
+            int first = firstStartAfter(time, true) - 1;
+            if (first <= 0) {
+                return this;
+            }
+            return new ItemBookings(Arrays.copyOfRange(starts, first, starts.length),
+                    Arrays.copyOfRange(ids, first, ids.length),
+                    Arrays.copyOfRange(bookerIds, first, bookerIds.length));
+        }
+
+        private int firstStartAfter(LocalDateTime time, boolean inclusive) {
+            int low = 0;
+            int high = starts.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                int compare = starts[middle].compareTo(time);
+                if (compare < 0 || (compare == 0 && !inclusive)) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        private BookingDtoShort toDtoShort(int index) {
+            return BookingDtoShort.builder()
+                    .id(ids[index])
+                    .bookerId(bookerIds[index])
+                    .build();
+        }
+
+    }
+
+}
@@ -8,16 +8,15 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Data
-@Builder
 @Entity
-@AllArgsConstructor
 @RequiredArgsConstructor
 @Table(name = "BOOKING", schema = "PUBLIC")
 @EqualsAndHashCode(of = {"id"})
 public class Booking {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+    @SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
@@ -39,4 +38,18 @@ public class Booking {
     @Column(name = "finish")
     private LocalDateTime end;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
+    @Builder
+    public Booking(Integer id, Item item, User booker, BookingStatus status, LocalDateTime start, LocalDateTime end) {
+        this.id = id;
+        this.item = item;
+        this.booker = booker;
+        this.status = status;
+        this.start = start;
+        this.end = end;
+    }
+
 }
\ No newline at end of file
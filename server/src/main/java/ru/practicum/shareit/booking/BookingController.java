@@ -1,14 +1,25 @@
 package ru.practicum.shareit.booking;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.utils.Constants;
+import ru.practicum.shareit.utils.JsonLines;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -18,6 +29,10 @@ public class BookingController {
 
     private final BookingService bookingService;
 
+    private final UserExistenceIndex userExistenceIndex;
+
+    private final ObjectMapper objectMapper;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public BookingDto save(@RequestBody NewBookingDto dto,
@@ -25,6 +40,13 @@ public class BookingController {
         return bookingService.save(dto, userId);
     }
 
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<BookingBatchResult> saveAll(@RequestBody List<NewBookingDto> dtos,
+                                            @RequestHeader(Constants.OWNER_HEADER) int userId) {
+        return bookingService.saveAll(dtos, userId);
+    }
+
     @PatchMapping("/{bookingId}")
     @ResponseStatus(HttpStatus.OK)
     public BookingDto update(@PathVariable int bookingId,
@@ -34,9 +56,12 @@ public class BookingController {
     }
 
     @GetMapping("/{bookingId}")
-    @ResponseStatus(HttpStatus.OK)
-    public  BookingDto findById(@PathVariable int bookingId,
-                                @RequestHeader(Constants.OWNER_HEADER) int userId) {
+    public BookingDto findById(@PathVariable int bookingId,
+                               @RequestHeader(Constants.OWNER_HEADER) int userId,
+                               WebRequest request) {
+        if (request.checkNotModified(bookingService.findEtagById(bookingId, userId))) {
+            return null;
+        }
         return bookingService.findById(bookingId, userId);
     }
 
@@ -45,7 +70,12 @@ public class BookingController {
     public Collection<BookingDto> findByState(@RequestParam(required = false, defaultValue = "ALL") BookingState state,
                                               @RequestHeader(Constants.OWNER_HEADER) int userId,
                                               @RequestParam(required = false) Integer from,
-                                              @RequestParam(required = false) Integer size) {
+                                              @RequestParam(required = false) Integer size,
+                                              @RequestParam(required = false) String after,
+                                              HttpServletResponse response) {
+        if (after != null) {
+            return setNextCursor(bookingService.findByStateAfter(state, userId, after, size), size, response);
+        }
         return bookingService.findByState(state, userId, from, size);
     }
 
@@ -54,8 +84,29 @@ public class BookingController {
     public Collection<BookingDto> findByOwner(@RequestParam(required = false, defaultValue = "ALL") BookingState state,
                                               @RequestHeader(Constants.OWNER_HEADER) int userId,
                                               @RequestParam(required = false) Integer from,
-                                              @RequestParam(required = false) Integer size)  {
+                                              @RequestParam(required = false) Integer size,
+                                              @RequestParam(required = false) String after,
+                                              HttpServletResponse response)  {
+        if (after != null) {
+            return setNextCursor(bookingService.findByOwnerAfter(state, userId, after, size), size, response);
+        }
         return bookingService.findByOwner(state, userId, from, size);
     }
 
+    @GetMapping("/owner/export")
+    public ResponseEntity<StreamingResponseBody> exportByOwner(@RequestHeader(Constants.OWNER_HEADER) int userId) {
+        userExistenceIndex.checkExists(userId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(JsonLines.<BookingDto>body(objectMapper, action -> bookingService.exportByOwner(userId, action)));
+    }
+
+    private Collection<BookingDto> setNextCursor(Collection<BookingDto> bookings, Integer size, HttpServletResponse response) {
+        if (!bookings.isEmpty() && bookings.size() == size) {
+            BookingDto last = bookings.stream().reduce((first, second) -> second).get();
+            response.setHeader(Constants.NEXT_CURSOR_HEADER, BookingCursor.of(last).encode());
+        }
+        return bookings;
+    }
+
 }
\ No newline at end of file
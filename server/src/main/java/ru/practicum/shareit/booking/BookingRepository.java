@@ -1,37 +1,166 @@
 package ru.practicum.shareit.booking;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.ApprovedBookingView;
+import ru.practicum.shareit.booking.dto.BookingVersionView;
+
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface BookingRepository extends JpaRepository<Booking, Integer> {
 
-    Page<Booking> findByBooker_IdEquals(int userId, Pageable pageable);
+    @Override
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Integer id);
+
+    @Query("select b.version as version, i.version as itemVersion, bk.version as bookerVersion, " +
+            "i.owner.id as ownerId, bk.id as bookerId from Booking b join b.item i join b.booker bk where b.id = :id")
+    Optional<BookingVersionView> findVersionById(int id);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByBooker_IdEquals(int userId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByBooker_IdAndStartAfter(int userId, LocalDateTime time, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByBooker_IdAndEndBefore(int userId, LocalDateTime time, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByBooker_IdAndStartBeforeAndEndAfter(int userId, LocalDateTime time, LocalDateTime time2, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByBooker_IdAndStatusEquals(int userId, BookingStatus status, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByItem_Owner_Id(int ownerId, Pageable pageable);
 
-    Page<Booking> findByBooker_IdAndStartAfter(int userId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByItem_Owner_IdAndStartAfter(int ownerId, LocalDateTime time, Pageable pageable);
 
-    Page<Booking> findByBooker_IdAndEndBefore(int userId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByItem_Owner_IdAndEndBefore(int userId, LocalDateTime time, Pageable pageable);
 
-    Page<Booking> findByBooker_IdAndStartBeforeAndEndAfter(int userId, LocalDateTime time, LocalDateTime time2, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByItem_Owner_IdAndStartBeforeAndEndAfter(int userId, LocalDateTime time, LocalDateTime time2, Pageable pageable);
 
-    Page<Booking> findByBooker_IdAndStatusEquals(int userId, BookingStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findByItem_Owner_IdAndStatusEquals(int userId, BookingStatus status, Pageable pageable);
 
-    Page<Booking> findByItem_Owner_Id(int ownerId, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.booker.id = :userId and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findByBookerBeforeCursor(int userId, LocalDateTime start, int id, Pageable pageable);
 
-    Page<Booking> findByItem_Owner_IdAndStartAfter(int ownerId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.booker.id = :userId and b.start > :time and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findFutureByBookerBeforeCursor(int userId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
 
-    Page<Booking> findByItem_Owner_IdAndEndBefore(int userId, LocalDateTime time, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.booker.id = :userId and b.end < :time and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findPastByBookerBeforeCursor(int userId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
 
-    Page<Booking> findByItem_Owner_IdAndStartBeforeAndEndAfter(int userId, LocalDateTime time, LocalDateTime time2, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.booker.id = :userId and b.start < :time and b.end > :time and " +
+            "(b.start > :start or (b.start = :start and b.id > :id)) order by b.start asc, b.id asc")
+    List<Booking> findCurrentByBookerAfterCursor(int userId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
 
-    Page<Booking> findByItem_Owner_IdAndStatusEquals(int userId, BookingStatus status, Pageable pageable);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.booker.id = :userId and b.status = :status and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findByBookerAndStatusBeforeCursor(int userId, BookingStatus status, LocalDateTime start, int id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.item.owner.id = :ownerId and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findByOwnerBeforeCursor(int ownerId, LocalDateTime start, int id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.item.owner.id = :ownerId and b.start > :time and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findFutureByOwnerBeforeCursor(int ownerId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.item.owner.id = :ownerId and b.end < :time and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findPastByOwnerBeforeCursor(int ownerId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.item.owner.id = :ownerId and b.start < :time and b.end > :time and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findCurrentByOwnerBeforeCursor(int ownerId, LocalDateTime time, LocalDateTime start, int id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("from Booking b where b.item.owner.id = :ownerId and b.status = :status and " +
+            "(b.start < :start or (b.start = :start and b.id < :id)) order by b.start desc, b.id desc")
+    List<Booking> findByOwnerAndStatusBeforeCursor(int ownerId, BookingStatus status, LocalDateTime start, int id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("from Booking b join fetch b.item i join fetch b.booker where i.owner.id = :ownerId order by b.id")
+    Stream<Booking> streamByOwner(int ownerId);
 
     Booking findFirstByItem_IdAndStartAfterAndStatusOrderByStart(int itemId, LocalDateTime time, BookingStatus status);
 
     Booking findFirstByItem_IdAndStartBeforeAndStatusOrderByEndDesc(int itemId, LocalDateTime time, BookingStatus status);
 
+    @Query(value = "SELECT id, item_id, booker, status, start, finish, version FROM " +
+            "(SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.start) AS rn FROM booking b " +
+            "WHERE b.item_id IN :itemIds AND b.start > :time AND b.status = 'APPROVED') nb " +
+            "WHERE nb.rn = 1", nativeQuery = true)
+    Collection<Booking> findNextApprovedByItemIds(Collection<Integer> itemIds, LocalDateTime time);
+
+    @Query(value = "SELECT id, item_id, booker, status, start, finish, version FROM " +
+            "(SELECT b.*, ROW_NUMBER() OVER (PARTITION BY b.item_id ORDER BY b.finish DESC) AS rn FROM booking b " +
+            "WHERE b.item_id IN :itemIds AND b.start < :time AND b.status = 'APPROVED') lb " +
+            "WHERE lb.rn = 1", nativeQuery = true)
+    Collection<Booking> findLastApprovedByItemIds(Collection<Integer> itemIds, LocalDateTime time);
+
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM booking b WHERE b.item_id = :itemId AND b.status = 'APPROVED' " +
+            "AND b.start IS NOT NULL AND b.finish IS NOT NULL " +
+            "AND tsrange(b.start, b.finish) && tsrange(CAST(:start AS timestamp), CAST(:end AS timestamp)))",
+            nativeQuery = true)
+    boolean existsApprovedOverlapping(int itemId, LocalDateTime start, LocalDateTime end);
+
+    @Query("from Booking b where b.item.id in :itemIds and b.status = ru.practicum.shareit.booking.BookingStatus.APPROVED " +
+            "and b.start < :end and b.end > :start")
+    List<Booking> findApprovedOverlapping(Collection<Integer> itemIds, LocalDateTime start, LocalDateTime end);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("select b.id as id, b.item.id as itemId, b.booker.id as bookerId, b.start as start from Booking b " +
+            "where b.status = ru.practicum.shareit.booking.BookingStatus.APPROVED and (b.start >= :time or b.start = " +
+            "(select max(l.start) from Booking l where l.item = b.item " +
+            "and l.status = ru.practicum.shareit.booking.BookingStatus.APPROVED and l.start < :time)) " +
+            "order by b.item.id, b.start")
+    Stream<ApprovedBookingView> streamRelevantApproved(LocalDateTime time);
+
+    @Query("select b.id as id, b.item.id as itemId, b.booker.id as bookerId, b.start as start from Booking b " +
+            "where b.item.id in :itemIds and b.status = ru.practicum.shareit.booking.BookingStatus.APPROVED " +
+            "and (b.start >= :time or b.start = (select max(l.start) from Booking l where l.item = b.item " +
+            "and l.status = ru.practicum.shareit.booking.BookingStatus.APPROVED and l.start < :time)) " +
+            "order by b.item.id, b.start")
+    List<ApprovedBookingView> findRelevantApprovedByItemIds(Collection<Integer> itemIds, LocalDateTime time);
+
     boolean existsBookingByBooker_IdAndItem_IdAndEndBefore(int userId, int itemId, LocalDateTime time);
 
-}
\ No newline at end of file
+    @Transactional
+    @Modifying
+    @Query("update Booking b set b.status = :status, b.version = b.version + 1 " +
+            "where b.id = :bookingId and b.status = ru.practicum.shareit.booking.BookingStatus.WAITING")
+    int updateStatusIfWaiting(int bookingId, BookingStatus status);
+
+}
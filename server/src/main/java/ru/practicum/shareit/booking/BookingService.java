@@ -1,20 +1,33 @@
 package ru.practicum.shareit.booking;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 
 import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookingService {
 
     BookingDto save(NewBookingDto dto, int userId);
 
+    List<BookingBatchResult> saveAll(List<NewBookingDto> dtos, int userId);
+
     BookingDto update(int bookingId, int ownerId, boolean status);
 
     BookingDto findById(int bookingId, int ownerId);
 
+    String findEtagById(int bookingId, int userId);
+
     Collection<BookingDto> findByState(BookingState state, int userId, Integer from, Integer size);
 
     Collection<BookingDto> findByOwner(BookingState state, int userId, Integer from, Integer size);
 
+    Collection<BookingDto> findByStateAfter(BookingState state, int userId, String after, Integer size);
+
+    Collection<BookingDto> findByOwnerAfter(BookingState state, int userId, String after, Integer size);
+
+    void exportByOwner(int userId, Consumer<BookingDto> action);
+
 }
\ No newline at end of file
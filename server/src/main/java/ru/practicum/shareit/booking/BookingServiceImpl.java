@@ -2,9 +2,16 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingVersionView;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 import ru.practicum.shareit.booking.strategies.by.owner.StrategyByOwnerFactory;
 import ru.practicum.shareit.booking.strategies.by.state.StrategyByStateFactory;
@@ -15,16 +22,33 @@ import ru.practicum.shareit.exceptions.exceptions.WrongParameter;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final UserRepository userRepository;
 
     private final ItemRepository itemRepository;
@@ -33,11 +57,18 @@ public class BookingServiceImpl implements BookingService {
 
     private final BookingMapper bookingMapper;
 
+    private final ApprovedBookingIndex approvedBookingIndex;
+
     private final StrategyByOwnerFactory strategyByOwnerFactory;
 
     private final StrategyByStateFactory strategyByStateFactory;
 
+    private final UserExistenceIndex userExistenceIndex;
+
+    private final EntityManager entityManager;
+
     @Override
+    @Transactional
     public BookingDto save(NewBookingDto dto, int userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
         Item item = itemRepository.findById(dto.getItemId()).orElseThrow(() -> new ItemNotFound(dto.getItemId()));
@@ -45,14 +76,53 @@ public class BookingServiceImpl implements BookingService {
         if (item.getOwner().getId() == userId) {
             throw new UserNotFound("Собственник не может создавать запрос на свою вещь.");
         }
-        Booking newBooking = bookingMapper.fromDto(dto, user);
-        if (Boolean.FALSE.equals(newBooking.getItem().getAvailable())) {
-            throw new WrongParameter("Предмет с ID " + newBooking.getItem().getId() + " не доступен.");
+        if (Boolean.FALSE.equals(item.getAvailable())) {
+            throw new WrongParameter("Предмет с ID " + item.getId() + " не доступен.");
+        }
+        if (bookingRepository.existsApprovedOverlapping(item.getId(), dto.getStart(), dto.getEnd())) {
+            throw new WrongParameter("Предмет с ID " + item.getId() + " уже забронирован на указанный период.");
         }
+        Booking newBooking = bookingMapper.fromDto(dto, user, item);
         newBooking.setStatus(BookingStatus.WAITING);
         return bookingMapper.toDto(bookingRepository.save(newBooking));
     }
 
+    @Override
+    @Transactional
+    public List<BookingBatchResult> saveAll(List<NewBookingDto> dtos, int userId) {
+        if (dtos == null || dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+            throw new WrongParameter("Пакет должен содержать от 1 до " + MAX_BATCH_SIZE + " бронирований.");
+        }
+        User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
+        Map<Integer, Item> items = itemRepository.findAllById(dtos.stream()
+                        .map(NewBookingDto::getItemId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        Map<Integer, List<Booking>> approved = findApprovedOverlapping(dtos, items.keySet());
+        List<Booking> bookings = new ArrayList<>(dtos.size());
+        List<String> errors = new ArrayList<>(dtos.size());
+        for (NewBookingDto dto : dtos) {
+            try {
+                bookings.add(newBooking(dto, user, userId, items, approved));
+                errors.add(null);
+            } catch (ItemNotFound | UserNotFound | WrongParameter exception) {
+                bookings.add(null);
+                errors.add(exception.getMessage());
+            }
+        }
+        bookingRepository.saveAll(bookings.stream().filter(Objects::nonNull).collect(Collectors.toList()));
+        List<BookingBatchResult> results = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            Booking booking = bookings.get(i);
+            results.add(BookingBatchResult.builder()
+                    .booking(booking != null ? bookingMapper.toDto(booking) : null)
+                    .error(errors.get(i))
+                    .build());
+        }
+        return results;
+    }
+
     @Override
     public BookingDto update(int bookingId, int ownerId, boolean status) {
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new BookingNotFound(bookingId));
@@ -63,36 +133,143 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus().equals(BookingStatus.APPROVED) || booking.getStatus().equals(BookingStatus.REJECTED)) {
             throw new WrongParameter("Данная заявка уже подтверждена.");
         }
+        BookingStatus newStatus = status ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+        try {
+            if (bookingRepository.updateStatusIfWaiting(bookingId, newStatus) == 0) {
+                throw new WrongParameter("Данная заявка уже подтверждена.");
+            }
+        } catch (DataIntegrityViolationException exception) {
+            throw new WrongParameter("Предмет с ID " + booking.getItem().getId() + " уже забронирован на указанный период.");
+        }
+        booking.setStatus(newStatus);
         if (status) {
-            booking.setStatus(BookingStatus.APPROVED);
-        } else {
-            booking.setStatus(BookingStatus.REJECTED);
+            approvedBookingIndex.add(booking);
         }
-        bookingRepository.save(booking);
         return bookingMapper.toDto(booking);
     }
 
     @Override
     public BookingDto findById(int bookingId, int userId) {
+        return bookingMapper.toDto(findAccessible(bookingId, userId));
+    }
+
+    @Override
+    public String findEtagById(int bookingId, int userId) {
+        BookingVersionView version = bookingRepository.findVersionById(bookingId)
+                .orElseThrow(() -> new BookingNotFound(bookingId));
+        checkAccess(version.getOwnerId(), version.getBookerId(), userId);
+        return "booking-" + bookingId + "-" + version.getVersion() + "-" + version.getItemVersion()
+                + "-" + version.getBookerVersion();
+    }
+
+    private Booking findAccessible(int bookingId, int userId) {
         Booking booking = bookingRepository.findById(bookingId).orElseThrow(() -> new BookingNotFound(bookingId));
-        Integer ownerId = booking.getItem().getOwner().getId();
-        Integer bookerId = booking.getBooker().getId();
+        checkAccess(booking.getItem().getOwner().getId(), booking.getBooker().getId(), userId);
+        return booking;
+    }
+
+    private void checkAccess(int ownerId, int bookerId, int userId) {
         if (userId != ownerId && userId != bookerId) {
             throw new UserNotFound("Данный запрос может сделать только собственник предмета или бронирующий.");
         }
-        return bookingMapper.toDto(booking);
     }
 
     @Override
     public Collection<BookingDto> findByState(BookingState state, int userId, Integer from, Integer size) {
-        userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
-        return strategyByStateFactory.findStrategy(state).findByBookingState(userId, from, size);
+        Collection<BookingDto> bookings = strategyByStateFactory.findStrategy(state).findByBookingState(userId, from, size);
+        return requireUserIfEmpty(bookings, userId);
     }
 
     @Override
     public Collection<BookingDto> findByOwner(BookingState state, int userId, Integer from, Integer size) {
-        userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
-        return strategyByOwnerFactory.findStrategy(state).findByBookingState(userId, from, size);
+        Collection<BookingDto> bookings = strategyByOwnerFactory.findStrategy(state).findByBookingState(userId, from, size);
+        return requireUserIfEmpty(bookings, userId);
+    }
+
+    @Override
+    public Collection<BookingDto> findByStateAfter(BookingState state, int userId, String after, Integer size) {
+        checkPageSize(size);
+        BookingCursor cursor = BookingCursor.decode(after);
+        Collection<BookingDto> bookings = strategyByStateFactory.findStrategy(state).findByBookingStateAfter(userId, cursor, size);
+        return requireUserIfEmpty(bookings, userId);
+    }
+
+    @Override
+    public Collection<BookingDto> findByOwnerAfter(BookingState state, int userId, String after, Integer size) {
+        checkPageSize(size);
+        BookingCursor cursor = BookingCursor.decode(after);
+        Collection<BookingDto> bookings = strategyByOwnerFactory.findStrategy(state).findByBookingStateAfter(userId, cursor, size);
+        return requireUserIfEmpty(bookings, userId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByOwner(int userId, Consumer<BookingDto> action) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        try (Stream<Booking> bookings = bookingRepository.streamByOwner(userId)) {
+            Iterator<Booking> iterator = bookings.iterator();
+            for (int exported = 1; iterator.hasNext(); exported++) {
+                action.accept(bookingMapper.toDto(iterator.next()));
+                if (exported % EXPORT_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
+    private Map<Integer, List<Booking>> findApprovedOverlapping(List<NewBookingDto> dtos, Collection<Integer> itemIds) {
+        Optional<LocalDateTime> start = dtos.stream()
+                .map(NewBookingDto::getStart)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder());
+        Optional<LocalDateTime> end = dtos.stream()
+                .map(NewBookingDto::getEnd)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder());
+        if (itemIds.isEmpty() || start.isEmpty() || end.isEmpty()) {
+            return Map.of();
+        }
+        return bookingRepository.findApprovedOverlapping(itemIds, start.get(), end.get()).stream()
+                .collect(Collectors.groupingBy(booking -> booking.getItem().getId()));
+    }
+
+    private Booking newBooking(NewBookingDto dto, User user, int userId, Map<Integer, Item> items,
+                               Map<Integer, List<Booking>> approved) {
+        if (dto.getItemId() == null) {
+            throw new WrongParameter("Не указан предмет.");
+        }
+        Item item = items.get(dto.getItemId());
+        if (item == null) {
+            throw new ItemNotFound(dto.getItemId());
+        }
+        checkBookingTime(dto);
+        if (item.getOwner().getId() == userId) {
+            throw new UserNotFound("Собственник не может создавать запрос на свою вещь.");
+        }
+        if (Boolean.FALSE.equals(item.getAvailable())) {
+            throw new WrongParameter("Предмет с ID " + item.getId() + " не доступен.");
+        }
+        for (Booking booking : approved.getOrDefault(item.getId(), List.of())) {
+            if (booking.getStart().isBefore(dto.getEnd()) && booking.getEnd().isAfter(dto.getStart())) {
+                throw new WrongParameter("Предмет с ID " + item.getId() + " уже забронирован на указанный период.");
+            }
+        }
+        Booking booking = bookingMapper.fromDto(dto, user, item);
+        booking.setStatus(BookingStatus.WAITING);
+        return booking;
+    }
+
+    private Collection<BookingDto> requireUserIfEmpty(Collection<BookingDto> bookings, int userId) {
+        if (bookings.isEmpty()) {
+            userExistenceIndex.checkExists(userId);
+        }
+        return bookings;
+    }
+
+    private void checkPageSize(Integer size) {
+        if (size == null || size < 1) {
+            throw new WrongParameter("Указаны неправильные параметры.");
+        }
     }
 
     private void checkBookingTime(NewBookingDto dto) {
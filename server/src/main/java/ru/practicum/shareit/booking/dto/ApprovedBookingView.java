@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.dto;
+
+import java.time.LocalDateTime;
+
+public interface ApprovedBookingView {
+
+    Integer getId();
+
+    Integer getItemId();
+
+    Integer getBookerId();
+
+    LocalDateTime getStart();
+
+}
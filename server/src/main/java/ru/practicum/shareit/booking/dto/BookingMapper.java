@@ -3,9 +3,7 @@ package ru.practicum.shareit.booking.dto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.Booking;
-import ru.practicum.shareit.exceptions.exceptions.ItemNotFound;
 import ru.practicum.shareit.item.Item;
-import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemMapper;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.dto.UserMapper;
@@ -17,14 +15,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BookingMapper {
 
-    private final ItemRepository itemRepository;
-
     private final ItemMapper itemMapper;
 
     private final UserMapper userMapper;
 
-    public Booking fromDto(NewBookingDto dto, User user) {
-        Item item = itemRepository.findById(dto.getItemId()).orElseThrow(() -> new ItemNotFound(dto.getItemId()));
+    public Booking fromDto(NewBookingDto dto, User user, Item item) {
         return Booking.builder()
                 .booker(user)
                 .item(item)
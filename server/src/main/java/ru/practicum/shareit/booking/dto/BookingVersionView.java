@@ -0,0 +1,15 @@
+package ru.practicum.shareit.booking.dto;
+
+public interface BookingVersionView {
+
+    Integer getVersion();
+
+    Integer getItemVersion();
+
+    Integer getBookerVersion();
+
+    Integer getOwnerId();
+
+    Integer getBookerId();
+
+}
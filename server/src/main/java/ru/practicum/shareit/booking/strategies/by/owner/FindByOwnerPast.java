@@ -7,6 +7,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 
@@ -26,6 +27,15 @@ public class FindByOwnerPast implements StrategyByOwner {
         return bookingMapper.toDto(bookingRepository.findByItem_Owner_IdAndEndBefore(userId, LocalDateTime.now(), page).getContent());
     }
 
+    @Override
+    public Collection<BookingDto> findByBookingStateAfter(int userId, BookingCursor after, Integer size) {
+        if (after == null) {
+            Pageable page = PageRequest.of(0, size, Sort.by("start").descending().and(Sort.by("id").descending()));
+            return bookingMapper.toDto(bookingRepository.findByItem_Owner_IdAndEndBefore(userId, LocalDateTime.now(), page).getContent());
+        }
+        return bookingMapper.toDto(bookingRepository.findPastByOwnerBeforeCursor(userId, LocalDateTime.now(), after.getStart(), after.getId(), PageRequest.of(0, size)));
+    }
+
     @Override
     public BookingState getBookingState() {
         return BookingState.PAST;
@@ -1,6 +1,7 @@
 package ru.practicum.shareit.booking.strategies.by.state;
 
 import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 
 import java.util.Collection;
@@ -9,6 +10,8 @@ public interface StrategyByState {
 
     Collection<BookingDto> findByBookingState(int userId, Integer from, Integer size);
 
+    Collection<BookingDto> findByBookingStateAfter(int userId, BookingCursor after, Integer size);
+
     BookingState getBookingState();
 
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -37,6 +38,12 @@ public class ErrorHandler {
         return sendErrorResponse(exception.getMessage());
     }
 
+    @ExceptionHandler({ObjectOptimisticLockingFailureException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse concurrentModification(RuntimeException exception) {
+        return sendErrorResponse("Данные были изменены другим запросом, повторите попытку.");
+    }
+
     private ErrorResponse sendErrorResponse(String description) {
         log.info(description);
         return new ErrorResponse(description);
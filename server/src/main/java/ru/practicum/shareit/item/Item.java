@@ -1,22 +1,25 @@
 package ru.practicum.shareit.item;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.user.User;
 
 import javax.persistence.*;
 
 @Data
-@Builder
-@AllArgsConstructor
 @NoArgsConstructor
 @Entity
 @Table(name = "ITEM", schema = "PUBLIC")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "items")
 @EqualsAndHashCode(of = {"id"})
 public class Item {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+    @SequenceGenerator(name = "item_seq", sequenceName = "item_seq", allocationSize = 50)
     @Column(name = "ID")
     private int id;
 
@@ -37,4 +40,18 @@ public class Item {
     @JoinColumn(name = "REQUEST_ID")
     private ItemRequest itemRequest;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
+    @Builder
+    public Item(int id, String name, String description, Boolean available, User owner, ItemRequest itemRequest) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.available = available;
+        this.owner = owner;
+        this.itemRequest = itemRequest;
+    }
+
 }
\ No newline at end of file
@@ -1,13 +1,20 @@
 package ru.practicum.shareit.item;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithTime;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.utils.Constants;
+import ru.practicum.shareit.utils.JsonLines;
 
 import java.util.Collection;
 
@@ -19,6 +26,10 @@ public class ItemController {
 
     private final ItemService itemService;
 
+    private final UserExistenceIndex userExistenceIndex;
+
+    private final ObjectMapper objectMapper;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public ItemDto save(@RequestHeader(Constants.OWNER_HEADER) int ownerId,
@@ -34,10 +45,21 @@ public class ItemController {
         return itemService.findAllByUserId(ownerId, from, size);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportByOwner(@RequestHeader(Constants.OWNER_HEADER) int ownerId) {
+        userExistenceIndex.checkExists(ownerId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(JsonLines.<ItemDto>body(objectMapper, action -> itemService.exportByOwner(ownerId, action)));
+    }
+
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
     public ItemDtoWithTime findById(@PathVariable int id,
-                                    @RequestHeader(Constants.OWNER_HEADER) int ownerId) {
+                                    @RequestHeader(Constants.OWNER_HEADER) int ownerId,
+                                    WebRequest request) {
+        if (request.checkNotModified(itemService.findEtagById(id, ownerId))) {
+            return null;
+        }
         return itemService.findById(id, ownerId);
     }
 
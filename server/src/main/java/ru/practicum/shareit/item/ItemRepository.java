@@ -1,11 +1,18 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.item.dto.ItemVersionView;
 
+import javax.persistence.QueryHint;
 import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface ItemRepository extends JpaRepository<Item, Integer> {
 
@@ -13,7 +20,17 @@ public interface ItemRepository extends JpaRepository<Item, Integer> {
     Collection<Item> findAllWhereOwnerIdIn(Integer ownerId);
 
     @Query("from Item it where it.owner.id in :ownerId ")
-    Page<Item> findAllWhereOwnerIdIn(Integer ownerId, Pageable pageable);
+    Slice<Item> findAllWhereOwnerIdIn(Integer ownerId, Pageable pageable);
+
+    @Query("select it.version as version, it.owner.id as ownerId, count(c.id) as comments, " +
+            "max(c.id) as lastCommentId, sum(a.version) as authorsVersion from Item it " +
+            "left join Comment c on c.item = it left join c.author a where it.id = :id " +
+            "group by it.id, it.version, it.owner.id")
+    Optional<ItemVersionView> findVersionById(int id);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("from Item it where it.owner.id = :ownerId order by it.id")
+    Stream<Item> streamByOwner(int ownerId);
 
     @Query("from Item it where it.available = TRUE and " +
             "(lower(it.name) like lower(concat('%', :text, '%')) or " +
@@ -23,6 +40,6 @@ public interface ItemRepository extends JpaRepository<Item, Integer> {
     @Query("from Item it where it.available = TRUE and " +
             "(lower(it.name) like lower(concat('%', :text, '%')) or " +
             "lower(it.description) like lower(concat('%', :text, '%'))) ")
-    Page<Item> findByName(String text, Pageable pageable);
+    Slice<Item> findByName(String text, Pageable pageable);
 
 }
\ No newline at end of file
@@ -5,6 +5,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithTime;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface ItemService {
 
@@ -14,12 +15,16 @@ public interface ItemService {
 
     ItemDtoWithTime findById(int id, int ownerId);
 
+    String findEtagById(int id, int ownerId);
+
     Collection<ItemDto> findByName(String text, Integer from, Integer size);
 
     void deleteById(int id);
 
     ItemDto updateById(int ownerID, int itemId, ItemDto itemDto);
 
+    void exportByOwner(int ownerId, Consumer<ItemDto> action);
+
     boolean isExists(int itemId);
 
     CommentDto saveComment(int userId, int itemId, CommentDto dto);
@@ -2,39 +2,57 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.ApprovedBookingIndex;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDtoShort;
 import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.exceptions.exceptions.*;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.request.ItemRequest;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
+    private static final int EXPORT_BATCH_SIZE = 1000;
+
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
     private final ItemMapper itemMapper;
     private final BookingRepository bookingRepository;
     private final BookingMapper bookingMapper;
+    private final ApprovedBookingIndex approvedBookingIndex;
     private final CommentRepository commentRepository;
     private final CommentMapper commentMapper;
     private final ItemRequestRepository itemRequestRepository;
+    private final UserExistenceIndex userExistenceIndex;
+    private final EntityManager entityManager;
 
     @Override
     public ItemDto save(int ownerId, ItemDto itemDto) {
@@ -49,7 +67,7 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public Collection<ItemDtoWithTime> findAllByUserId(Integer ownerId, Integer from, Integer size) {
-        userRepository.findById(ownerId).orElseThrow(() -> new UserNotFound(ownerId));
+        userExistenceIndex.checkExists(ownerId);
         Collection<ItemDtoWithTime> items;
         if (from == null || size == null) {
             items = itemMapper.toDtoWithTime(itemRepository.findAllWhereOwnerIdIn(ownerId));
@@ -60,24 +78,30 @@ public class ItemServiceImpl implements ItemService {
             Pageable page = PageRequest.of(from == 0 ? 0 : from / size, size, Sort.by("id").ascending());
             items = itemMapper.toDtoWithTime(itemRepository.findAllWhereOwnerIdIn(ownerId, page).getContent());
         }
-        for (ItemDtoWithTime item : items) {
-            Booking nextBooking = bookingRepository.findFirstByItem_IdAndStartAfterAndStatusOrderByStart(item.getId(), LocalDateTime.now(), BookingStatus.APPROVED);
-            if (nextBooking != null) {
-                item.setNextBooking(bookingMapper.toDtoShort(nextBooking));
-            }
-            Booking lastBooking = bookingRepository.findFirstByItem_IdAndStartBeforeAndStatusOrderByEndDesc(item.getId(), LocalDateTime.now(), BookingStatus.APPROVED);
-            if (lastBooking != null) {
-                item.setLastBooking(bookingMapper.toDtoShort(lastBooking));
-            }
-        }
+        setNextAndLastBookings(items);
         return items;
     }
 
     @Override
     public ItemDtoWithTime findById(int id, int ownerId) {
         Item item = itemRepository.findById(id).orElseThrow(() -> new ItemNotFound(id));
+        return toDtoWithTime(item, commentRepository.findByItem_Id(id), ownerId);
+    }
+
+    @Override
+    public String findEtagById(int id, int ownerId) {
+        ItemVersionView version = itemRepository.findVersionById(id).orElseThrow(() -> new ItemNotFound(id));
+        String etag = "item-" + id + "-" + version.getVersion() + "-" + version.getComments() + "-"
+                + version.getLastCommentId() + "-" + version.getAuthorsVersion();
+        if (version.getOwnerId() == ownerId) {
+            etag += "-" + bookingsEtag(id);
+        }
+        return etag;
+    }
+
+    private ItemDtoWithTime toDtoWithTime(Item item, Collection<Comment> itemComments, int ownerId) {
         ItemDtoWithTime itemDtoWithTime = itemMapper.toDtoWithTime(item);
-        Collection<CommentDto> comments = commentMapper.toDto(commentRepository.findByItem_Id(id));
+        Collection<CommentDto> comments = commentMapper.toDto(itemComments);
         if (!comments.isEmpty()) {
             itemDtoWithTime.setComments(comments);
         } else {
@@ -86,6 +110,12 @@ public class ItemServiceImpl implements ItemService {
         if (item.getOwner().getId() != ownerId) {
             return itemDtoWithTime;
         }
+        if (approvedBookingIndex.contains(item.getId())) {
+            LocalDateTime now = LocalDateTime.now();
+            itemDtoWithTime.setNextBooking(approvedBookingIndex.findNext(item.getId(), now));
+            itemDtoWithTime.setLastBooking(approvedBookingIndex.findLast(item.getId(), now));
+            return itemDtoWithTime;
+        }
         Booking nextBooking = bookingRepository.findFirstByItem_IdAndStartAfterAndStatusOrderByStart(item.getId(), LocalDateTime.now(), BookingStatus.APPROVED);
         if (nextBooking != null) {
             itemDtoWithTime.setNextBooking(bookingMapper.toDtoShort(nextBooking));
@@ -94,6 +124,7 @@ public class ItemServiceImpl implements ItemService {
         if (lastBooking != null) {
             itemDtoWithTime.setLastBooking(bookingMapper.toDtoShort(lastBooking));
         }
+        approvedBookingIndex.load(List.of(item.getId()));
         return itemDtoWithTime;
     }
 
@@ -113,7 +144,7 @@ public class ItemServiceImpl implements ItemService {
 
     @Override
     public ItemDto updateById(int ownerID, int itemId, ItemDto itemDto) {
-        userRepository.findById(ownerID).orElseThrow(() -> new UserNotFound(ownerID));
+        userExistenceIndex.checkExists(ownerID);
         Item item = itemRepository.findById(itemId).orElseThrow(() -> new ItemNotFound(itemId));
         if (item.getOwner().getId() != ownerID) {
             throw new WrongOwner("Указанный пользователь не является собственником вещи.");
@@ -128,6 +159,21 @@ public class ItemServiceImpl implements ItemService {
         return itemMapper.toDto(itemRepository.save(item));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public void exportByOwner(int ownerId, Consumer<ItemDto> action) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        try (Stream<Item> items = itemRepository.streamByOwner(ownerId)) {
+            Iterator<Item> iterator = items.iterator();
+            for (int exported = 1; iterator.hasNext(); exported++) {
+                action.accept(itemMapper.toDto(iterator.next()));
+                if (exported % EXPORT_BATCH_SIZE == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     @Override
     public boolean isExists(int itemId) {
         return itemRepository.existsById(itemId);
@@ -144,6 +190,50 @@ public class ItemServiceImpl implements ItemService {
         return commentMapper.toDto(commentRepository.save(newComment));
     }
 
+    private static Integer bookingId(BookingDtoShort booking) {
+        return booking == null ? null : booking.getId();
+    }
+
+    private String bookingsEtag(int itemId) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!approvedBookingIndex.contains(itemId)) {
+            approvedBookingIndex.load(List.of(itemId));
+        }
+        if (approvedBookingIndex.contains(itemId)) {
+            return bookingId(approvedBookingIndex.findLast(itemId, now)) + "-"
+                    + bookingId(approvedBookingIndex.findNext(itemId, now));
+        }
+        Booking lastBooking = bookingRepository.findFirstByItem_IdAndStartBeforeAndStatusOrderByEndDesc(itemId, now, BookingStatus.APPROVED);
+        Booking nextBooking = bookingRepository.findFirstByItem_IdAndStartAfterAndStatusOrderByStart(itemId, now, BookingStatus.APPROVED);
+        return (lastBooking == null ? null : lastBooking.getId()) + "-" + (nextBooking == null ? null : nextBooking.getId());
+    }
+
+    private void setNextAndLastBookings(Collection<ItemDtoWithTime> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, ItemDtoWithTime> missedById = new HashMap<>();
+        for (ItemDtoWithTime item : items) {
+            if (approvedBookingIndex.contains(item.getId())) {
+                item.setNextBooking(approvedBookingIndex.findNext(item.getId(), now));
+                item.setLastBooking(approvedBookingIndex.findLast(item.getId(), now));
+            } else {
+                missedById.put(item.getId(), item);
+            }
+        }
+        if (missedById.isEmpty()) {
+            return;
+        }
+        for (Booking nextBooking : bookingRepository.findNextApprovedByItemIds(missedById.keySet(), now)) {
+            missedById.get(nextBooking.getItem().getId()).setNextBooking(bookingMapper.toDtoShort(nextBooking));
+        }
+        for (Booking lastBooking : bookingRepository.findLastApprovedByItemIds(missedById.keySet(), now)) {
+            missedById.get(lastBooking.getItem().getId()).setLastBooking(bookingMapper.toDtoShort(lastBooking));
+        }
+        approvedBookingIndex.load(missedById.keySet());
+    }
+
     private boolean isAvailableForComments(int userId, int itemId) {
         return bookingRepository.existsBookingByBooker_IdAndItem_IdAndEndBefore(userId, itemId, LocalDateTime.now());
     }
@@ -0,0 +1,15 @@
+package ru.practicum.shareit.item.dto;
+
+public interface ItemVersionView {
+
+    Integer getVersion();
+
+    Integer getOwnerId();
+
+    Long getComments();
+
+    Integer getLastCommentId();
+
+    Long getAuthorsVersion();
+
+}
@@ -1,6 +1,9 @@
 package ru.practicum.shareit.request;
 
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
@@ -15,11 +18,14 @@ import java.util.Collection;
 @NoArgsConstructor
 @Entity
 @Table(name = "REQUEST", schema = "PUBLIC")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "requests")
 @EqualsAndHashCode(of = {"id"})
 public class ItemRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_seq")
+    @SequenceGenerator(name = "request_seq", sequenceName = "request_seq", allocationSize = 50)
     @Column(name = "ID")
     private Integer id;
 
@@ -36,6 +42,7 @@ public class ItemRequest {
 
     @OneToMany(fetch = FetchType.LAZY)
     @JoinColumn(name = "REQUEST_ID")
+    @BatchSize(size = 100)
     private Collection<Item> items;
 
 }
\ No newline at end of file
@@ -1,7 +1,7 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
@@ -13,6 +13,6 @@ public interface ItemRequestRepository extends JpaRepository<ItemRequest, Intege
     Collection<ItemRequest> findAll(int ownerId);
 
     @Query("FROM ItemRequest IR WHERE IR.owner.id NOT IN :userId ")
-    Page<ItemRequest> findOthersRequests(int userId, Pageable pageable);
+    Slice<ItemRequest> findOthersRequests(int userId, Pageable pageable);
 
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.util.ArrayList;
@@ -25,6 +26,8 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     private final UserRepository userRepository;
 
+    private final UserExistenceIndex userExistenceIndex;
+
     @Override
     public ItemRequestDto save(ItemRequestDto dto, int ownerId) {
         User user = userRepository.findById(ownerId).orElseThrow(() -> new UserNotFound(ownerId));
@@ -33,7 +36,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public Collection<ItemRequestDto> findAll(int ownerId) {
-        userRepository.findById(ownerId).orElseThrow(() -> new UserNotFound(ownerId));
+        userExistenceIndex.checkExists(ownerId);
         Collection<ItemRequest> requests = repository.findAll(ownerId);
         if (requests.isEmpty()) {
             return new ArrayList<>();
@@ -43,7 +46,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public Collection<ItemRequestDto> findOthersRequests(int userId, Integer from, Integer size) {
-        userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
+        userExistenceIndex.checkExists(userId);
         Pageable page = PageRequest.of(from == 0 ? 0 : from / size, size, Sort.by("created").descending());
         Collection<ItemRequest> requests = repository.findOthersRequests(userId, page).getContent();
         if (requests.isEmpty()) {
@@ -54,7 +57,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
     @Override
     public ItemRequestDto findById(int userId, int requestId) {
-        userRepository.findById(userId).orElseThrow(() -> new UserNotFound(userId));
+        userExistenceIndex.checkExists(userId);
         ItemRequest itemRequest = repository.findById(requestId).orElseThrow(() -> new ItemRequestNotFound(requestId));
         return itemRequestMapper.toDto(itemRequest);
     }
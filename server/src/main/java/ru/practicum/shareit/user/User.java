@@ -1,20 +1,23 @@
 package ru.practicum.shareit.user;
 
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import javax.persistence.*;
 
 @Entity
-@Builder
 @Data
-@AllArgsConstructor
 @RequiredArgsConstructor
 @Table(name = "USERS", schema = "PUBLIC")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @EqualsAndHashCode(of = {"id"})
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @Column(name = "ID")
     private Integer id;
 
@@ -24,4 +27,15 @@ public class User {
     @Column(name = "EMAIL", unique = true)
     private String email;
 
+    @Version
+    @Column(name = "VERSION")
+    private Integer version;
+
+    @Builder
+    public User(Integer id, String name, String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+
 }
\ No newline at end of file
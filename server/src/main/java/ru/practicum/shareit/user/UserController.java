@@ -1,11 +1,20 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserView;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 
 @RestController
@@ -16,6 +25,8 @@ public class UserController {
 
     private final UserService userService;
 
+    private final ObjectMapper objectMapper;
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
     public UserDto save(@RequestBody UserDto user) {
@@ -23,14 +34,26 @@ public class UserController {
     }
 
     @GetMapping
+    public ResponseEntity<StreamingResponseBody> findAll() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(this::writeAll);
+    }
+
+    @GetMapping(params = "size")
     @ResponseStatus(HttpStatus.OK)
-    public Collection<User> findAll() {
-        return userService.findAll();
+    public Collection<UserView> findAll(@RequestParam(defaultValue = "0") Integer from,
+                                        @RequestParam Integer size,
+                                        @RequestParam(required = false) Integer after) {
+        if (after != null) {
+            return userService.findAllAfter(after, size);
+        }
+        return userService.findAll(from, size);
     }
 
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public User findById(@PathVariable int id) {
+    public UserDto findById(@PathVariable int id) {
         return userService.findById(id);
     }
 
@@ -47,4 +70,22 @@ public class UserController {
         return userService.updateById(id, user);
     }
 
+    private void writeAll(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.writeStartArray();
+        try {
+            userService.streamAll(user -> {
+                try {
+                    generator.writeObject(user);
+                } catch (IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+            });
+        } catch (UncheckedIOException exception) {
+            throw exception.getCause();
+        }
+        generator.writeEndArray();
+        generator.flush();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Component
+@RequiredArgsConstructor
+public class UserExistenceIndex {
+
+    private static final int CAPACITY = 1 << 24;
+
+    private final UserRepository userRepository;
+
+    private final AtomicLongArray knownIds = new AtomicLongArray(CAPACITY >>> 6);
+
+    private final AtomicLong removals = new AtomicLong();
+
+    public void checkExists(int userId) {
+        if (contains(userId)) {
+            return;
+        }
+        long stamp = removals.get();
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFound(userId);
+        }
+        markIfUnchanged(userId, stamp);
+    }
+
+    public void add(int userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    mark(userId);
+                }
+            });
+        } else {
+            mark(userId);
+        }
+    }
+
+    public void remove(int userId) {
+        unmark(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    unmark(userId);
+                }
+            });
+        }
+    }
+
+    public synchronized void clear() {
+        removals.incrementAndGet();
+        for (int i = 0; i < knownIds.length(); i++) {
+            knownIds.set(i, 0L);
+        }
+    }
+
+    private boolean contains(int userId) {
+        return isIndexed(userId) && (knownIds.get(userId >>> 6) & (1L << userId)) != 0;
+    }
+
+    private void mark(int userId) {
+        if (isIndexed(userId)) {
+            long bit = 1L << userId;
+            knownIds.getAndUpdate(userId >>> 6, word -> word | bit);
+        }
+    }
+
+    private synchronized void markIfUnchanged(int userId, long stamp) {
+        if (removals.get() == stamp) {
+            mark(userId);
+        }
+    }
+
+    private synchronized void unmark(int userId) {
+        removals.incrementAndGet();
+        if (isIndexed(userId)) {
+            long bit = 1L << userId;
+            knownIds.getAndUpdate(userId >>> 6, word -> word & ~bit);
+        }
+    }
+
+    private static boolean isIndexed(int userId) {
+        return userId > 0 && userId < CAPACITY;
+    }
+
+}
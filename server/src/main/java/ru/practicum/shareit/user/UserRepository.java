@@ -1,7 +1,25 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.user.dto.UserView;
+
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 
-}
\ No newline at end of file
+    Slice<UserView> findAllBy(Pageable pageable);
+
+    Slice<UserView> findByIdGreaterThan(int id, Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT U.id AS id, U.name AS name, U.email AS email FROM User U ORDER BY U.id")
+    Stream<UserView> streamAll();
+
+}
@@ -1,16 +1,22 @@
 package ru.practicum.shareit.user;
 
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserView;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 
 public interface UserService {
 
     UserDto save(UserDto user);
 
-    Collection<User> findAll();
+    void streamAll(Consumer<UserView> action);
 
-    User findById(int id);
+    Collection<UserView> findAll(Integer from, Integer size);
+
+    Collection<UserView> findAllAfter(Integer after, Integer size);
+
+    UserDto findById(int id);
 
     void deleteById(int id);
 
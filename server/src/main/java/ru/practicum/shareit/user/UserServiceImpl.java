@@ -2,13 +2,21 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
+import ru.practicum.shareit.exceptions.exceptions.WrongParameter;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserView;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -19,23 +27,50 @@ public class UserServiceImpl implements UserService {
 
     private final UserMapper userMapper;
 
+    private final UserExistenceIndex userExistenceIndex;
+
     @Override
     public UserDto save(UserDto user) {
-        return userMapper.toDto(userRepository.save(userMapper.fromDto(user)));
+        User saved = userRepository.save(userMapper.fromDto(user));
+        userExistenceIndex.add(saved.getId());
+        return userMapper.toDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<UserView> action) {
+        try (Stream<UserView> users = userRepository.streamAll()) {
+            users.forEach(action);
+        }
+    }
+
+    @Override
+    public Collection<UserView> findAll(Integer from, Integer size) {
+        if (from == null || from < 0 || size == null || size < 1) {
+            throw new WrongParameter("Указаны неправильные параметры.");
+        }
+        Pageable page = PageRequest.of(from / size, size, Sort.by("id").ascending());
+        return userRepository.findAllBy(page).getContent();
     }
 
     @Override
-    public Collection<User> findAll() {
-        return userRepository.findAll();
+    public Collection<UserView> findAllAfter(Integer after, Integer size) {
+        if (after == null || size == null || size < 1) {
+            throw new WrongParameter("Указаны неправильные параметры.");
+        }
+        Pageable page = PageRequest.of(0, size, Sort.by("id").ascending());
+        return userRepository.findByIdGreaterThan(after, page).getContent();
     }
 
     @Override
-    public User findById(int id) {
-        return userRepository.findById(id).orElseThrow(() -> new UserNotFound(id));
+    public UserDto findById(int id) {
+        return userMapper.toDto(userRepository.findById(id).orElseThrow(() -> new UserNotFound(id)));
     }
 
     @Override
+    @Transactional
     public void deleteById(int id) {
+        userExistenceIndex.remove(id);
         userRepository.deleteById(id);
     }
 
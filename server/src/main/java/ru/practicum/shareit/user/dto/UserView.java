@@ -0,0 +1,14 @@
+package ru.practicum.shareit.user.dto;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonPropertyOrder({"id", "name", "email"})
+public interface UserView {
+
+    Integer getId();
+
+    String getName();
+
+    String getEmail();
+
+}
@@ -7,4 +7,6 @@ public class Constants {
 
     public static final String OWNER_HEADER = "X-Sharer-User-Id";
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 }
@@ -1,5 +1,3 @@
-DROP TABLE IF EXISTS USERS CASCADE;
-
 create table if not exists public.users
 (
     id    integer
@@ -9,8 +7,6 @@ create table if not exists public.users
         unique
 );
 
-DROP TABLE IF EXISTS REQUEST CASCADE;
-
 create table if not exists public.request
 (
     id          integer
@@ -22,8 +18,6 @@ create table if not exists public.request
     created     timestamp    not null
 );
 
-DROP TABLE IF EXISTS ITEM CASCADE;
-
 create table if not exists public.item
 (
     id          integer
@@ -39,8 +33,6 @@ create table if not exists public.item
             references public.request
 );
 
-DROP TABLE IF EXISTS BOOKING;
-
 create table if not exists public.booking
 (
     id      integer
@@ -56,8 +48,6 @@ create table if not exists public.booking
     finish  timestamp
 );
 
-DROP TABLE IF EXISTS COMMENTS;
-
 create table if not exists public.comments
 (
     id        integer
@@ -71,4 +61,3 @@ create table if not exists public.comments
     text      varchar(255) not null,
     created   timestamp    not null
 );
-
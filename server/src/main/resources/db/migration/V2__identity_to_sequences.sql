@@ -0,0 +1,49 @@
+alter table public.users alter column id drop identity if exists;
+
+create sequence if not exists public.users_seq increment by 50;
+
+alter sequence public.users_seq owned by public.users.id;
+
+select setval('public.users_seq', coalesce(max(id), 0) + 1, false) from public.users;
+
+alter table public.users alter column id set default nextval('public.users_seq');
+
+alter table public.request alter column id drop identity if exists;
+
+create sequence if not exists public.request_seq increment by 50;
+
+alter sequence public.request_seq owned by public.request.id;
+
+select setval('public.request_seq', coalesce(max(id), 0) + 1, false) from public.request;
+
+alter table public.request alter column id set default nextval('public.request_seq');
+
+alter table public.item alter column id drop identity if exists;
+
+create sequence if not exists public.item_seq increment by 50;
+
+alter sequence public.item_seq owned by public.item.id;
+
+select setval('public.item_seq', coalesce(max(id), 0) + 1, false) from public.item;
+
+alter table public.item alter column id set default nextval('public.item_seq');
+
+alter table public.booking alter column id drop identity if exists;
+
+create sequence if not exists public.booking_seq increment by 50;
+
+alter sequence public.booking_seq owned by public.booking.id;
+
+select setval('public.booking_seq', coalesce(max(id), 0) + 1, false) from public.booking;
+
+alter table public.booking alter column id set default nextval('public.booking_seq');
+
+alter table public.comments alter column id drop identity if exists;
+
+create sequence if not exists public.comments_seq increment by 50;
+
+alter sequence public.comments_seq owned by public.comments.id;
+
+select setval('public.comments_seq', coalesce(max(id), 0) + 1, false) from public.comments;
+
+alter table public.comments alter column id set default nextval('public.comments_seq');
@@ -0,0 +1,5 @@
+alter table public.users add column if not exists version integer not null default 0;
+
+alter table public.item add column if not exists version integer not null default 0;
+
+alter table public.booking add column if not exists version integer not null default 0;
@@ -0,0 +1,31 @@
+-- The exclusion constraint builds its GiST index under an ACCESS EXCLUSIVE lock on booking: reads and writes
+-- to the table wait until the build finishes. PostgreSQL cannot attach an exclusion constraint to an index built
+-- with CREATE INDEX CONCURRENTLY, so run this migration in a maintenance window on large tables.
+-- Bookings without start or finish are left out: tsrange with a null bound is unbounded and would overlap
+-- every later booking of the item.
+do
+$$
+    declare
+        overlapping bigint;
+    begin
+        select count(*)
+        into overlapping
+        from public.booking b1
+                 join public.booking b2 on b1.item_id = b2.item_id and b1.id < b2.id
+        where b1.status = 'APPROVED'
+          and b2.status = 'APPROVED'
+          and b1.start is not null
+          and b1.finish is not null
+          and b2.start is not null
+          and b2.finish is not null
+          and tsrange(b1.start, b1.finish) && tsrange(b2.start, b2.finish);
+        if overlapping > 0 then
+            raise exception 'Found % pairs of overlapping approved bookings, resolve them before adding booking_item_id_period_excl',
+                overlapping;
+        end if;
+    end
+$$;
+
+alter table public.booking add constraint booking_item_id_period_excl
+    exclude using gist (item_id with =, tsrange(start, finish) with &&)
+    where (status = 'APPROVED' and start is not null and finish is not null);
@@ -0,0 +1,21 @@
+create index concurrently if not exists item_owner_id_id_idx on public.item (owner_id, id);
+
+create index concurrently if not exists item_request_id_idx on public.item (request_id);
+
+create index concurrently if not exists item_name_trgm_idx on public.item
+    using gin (lower(name) gin_trgm_ops) where available;
+
+create index concurrently if not exists item_description_trgm_idx on public.item
+    using gin (lower(description) gin_trgm_ops) where available;
+
+create index concurrently if not exists request_owner_id_created_idx on public.request (owner_id, created desc);
+
+create index concurrently if not exists booking_booker_start_idx on public.booking (booker, start desc);
+
+create index concurrently if not exists booking_booker_status_start_idx on public.booking (booker, status, start desc);
+
+create index concurrently if not exists booking_item_id_start_idx on public.booking (item_id, start desc);
+
+create index concurrently if not exists booking_item_id_status_start_idx on public.booking (item_id, status, start);
+
+create index concurrently if not exists comments_item_id_idx on public.comments (item_id);
@@ -1,17 +1,22 @@
-INSERT INTO USERS (name, email) VALUES ( 'User1', 'email1@email.com' );
-INSERT INTO USERS (name, email) VALUES ( 'User2', 'email2@email.com' );
-INSERT INTO USERS (name, email) VALUES ( 'User3', 'email3@email.com' );
-INSERT INTO ITEM (NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 'Item1', 'description1', 'true', 1, null );
-INSERT INTO ITEM (NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 'Item2', 'description2', 'true', 1, null );
-INSERT INTO ITEM (NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 'Item3', 'description3', 'false', 1, null );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 2, 1, 'WAITING', '2022-08-18 9:00', '2022-09-18 9:00' );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 2, 1, 'WAITING', '2022-10-18 9:00', '2022-11-18 9:00' );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 3, 2, 'WAITING', '2022-10-18 9:00', '2022-11-18 9:00' );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 3, 1, 'WAITING', '2022-12-18 9:00', '2022-12-20 9:00' );
-INSERT INTO REQUEST (OWNER_ID, DESCRIPTION, CREATED) VALUES ( 2, 'request_description', '2022-07-20 9:00' );
-INSERT INTO ITEM (NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 'Item4', 'description4', 'true', 1, 1 );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 2, 1, 'APPROVED', '2021-08-18 9:00', '2021-09-18 9:00' );
-INSERT INTO COMMENTS (ITEM_ID, AUTHOR_ID, TEXT, CREATED) VALUES ( 1, 2, 'comment', '2022-08-18 9:00' );
-INSERT INTO REQUEST (OWNER_ID, DESCRIPTION, CREATED) VALUES ( 3, 'request_description2', '2022-08-20 9:00' );
-INSERT INTO REQUEST (OWNER_ID, DESCRIPTION, CREATED) VALUES ( 3, 'request_description3', '2022-09-20 9:00' );
-INSERT INTO BOOKING (BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 2, 1, 'REJECTED', '2020-08-18 9:00', '2020-09-18 9:00' );
\ No newline at end of file
+INSERT INTO USERS (ID, name, email) VALUES ( 1, 'User1', 'email1@email.com' );
+INSERT INTO USERS (ID, name, email) VALUES ( 2, 'User2', 'email2@email.com' );
+INSERT INTO USERS (ID, name, email) VALUES ( 3, 'User3', 'email3@email.com' );
+INSERT INTO ITEM (ID, NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 1, 'Item1', 'description1', 'true', 1, null );
+INSERT INTO ITEM (ID, NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 2, 'Item2', 'description2', 'true', 1, null );
+INSERT INTO ITEM (ID, NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 3, 'Item3', 'description3', 'false', 1, null );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 1, 2, 1, 'WAITING', '2022-08-18 9:00', '2022-09-18 9:00' );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 2, 2, 1, 'WAITING', '2022-10-18 9:00', '2022-11-18 9:00' );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 3, 3, 2, 'WAITING', '2022-10-18 9:00', '2022-11-18 9:00' );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 4, 3, 1, 'WAITING', '2022-12-18 9:00', '2022-12-20 9:00' );
+INSERT INTO REQUEST (ID, OWNER_ID, DESCRIPTION, CREATED) VALUES ( 1, 2, 'request_description', '2022-07-20 9:00' );
+INSERT INTO ITEM (ID, NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID) VALUES ( 4, 'Item4', 'description4', 'true', 1, 1 );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 5, 2, 1, 'APPROVED', '2021-08-18 9:00', '2021-09-18 9:00' );
+INSERT INTO COMMENTS (ID, ITEM_ID, AUTHOR_ID, TEXT, CREATED) VALUES ( 1, 1, 2, 'comment', '2022-08-18 9:00' );
+INSERT INTO REQUEST (ID, OWNER_ID, DESCRIPTION, CREATED) VALUES ( 2, 3, 'request_description2', '2022-08-20 9:00' );
+INSERT INTO REQUEST (ID, OWNER_ID, DESCRIPTION, CREATED) VALUES ( 3, 3, 'request_description3', '2022-09-20 9:00' );
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH) VALUES ( 6, 2, 1, 'REJECTED', '2020-08-18 9:00', '2020-09-18 9:00' );
+SELECT setval('public.users_seq', 4, false);
+SELECT setval('public.request_seq', 4, false);
+SELECT setval('public.item_seq', 5, false);
+SELECT setval('public.booking_seq', 7, false);
+SELECT setval('public.comments_seq', 2, false);
@@ -0,0 +1,171 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.ApprovedBookingIndex;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.ApprovedBookingView;
+import ru.practicum.shareit.booking.dto.BookingDtoShort;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.user.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Stream;
+
+class ApprovedBookingIndexTests {
+
+    private static final LocalDateTime NOW = LocalDateTime.now();
+
+    private final BookingRepository mockBookingRepository = Mockito.mock(BookingRepository.class);
+
+    private final ApprovedBookingIndex approvedBookingIndex = new ApprovedBookingIndex(mockBookingRepository);
+
+    private final User owner = new User(1, "User1", "email1@email.com");
+
+    private final User booker = new User(2, "User2", "email2@email.com");
+
+    private final Item item = new Item(1, "Item1", "description", true, owner, null);
+
+    private final Item otherItem = new Item(2, "Item2", "description", true, owner, null);
+
+    private Booking booking(int id, LocalDateTime start, LocalDateTime end) {
+        return new Booking(id, item, booker, BookingStatus.APPROVED, start, end);
+    }
+
+    private static ApprovedBookingView view(int id, int itemId, LocalDateTime start) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ApprovedBookingView.class,
+                Map.of("id", id, "itemId", itemId, "bookerId", 2, "start", start));
+    }
+
+    @Test
+    void warmUpAndFindNextAndLast() {
+        Mockito
+                .when(mockBookingRepository.streamRelevantApproved(Mockito.any()))
+                .thenReturn(Stream.of(view(1, 1, NOW.minusDays(5)),
+                        view(2, 1, NOW.minusDays(2)),
+                        view(3, 1, NOW.plusDays(1)),
+                        view(4, 1, NOW.plusDays(3)),
+                        view(7, 3, NOW.plusDays(1))));
+        approvedBookingIndex.warmUp();
+        Assertions.assertTrue(approvedBookingIndex.contains(1));
+        Assertions.assertFalse(approvedBookingIndex.contains(2));
+        Assertions.assertEquals(new BookingDtoShort(7, 2), approvedBookingIndex.findNext(3, NOW));
+        Assertions.assertEquals(new BookingDtoShort(3, 2), approvedBookingIndex.findNext(1, NOW));
+        Assertions.assertEquals(new BookingDtoShort(2, 2), approvedBookingIndex.findLast(1, NOW));
+        Assertions.assertEquals(new BookingDtoShort(2, 2), approvedBookingIndex.findNext(1, NOW.minusDays(4)));
+        Assertions.assertNull(approvedBookingIndex.findNext(1, NOW.plusDays(3)));
+        Assertions.assertNull(approvedBookingIndex.findLast(1, NOW.minusDays(5)));
+    }
+
+    @Test
+    void loadMissedItemWithoutBookings() {
+        Mockito
+                .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                .thenReturn(List.of());
+        approvedBookingIndex.load(List.of(1));
+        Assertions.assertTrue(approvedBookingIndex.contains(1));
+        Assertions.assertNull(approvedBookingIndex.findNext(1, NOW));
+        Assertions.assertNull(approvedBookingIndex.findLast(1, NOW));
+    }
+
+    @Test
+    void addKeepsBookingsSorted() {
+        Mockito
+                .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                .thenReturn(List.of(view(1, 1, NOW.minusDays(5)),
+                        view(3, 1, NOW.plusDays(3))));
+        approvedBookingIndex.load(List.of(1));
+        approvedBookingIndex.add(booking(5, NOW.plusDays(1), NOW.plusDays(2)));
+        approvedBookingIndex.add(booking(6, NOW.minusDays(2), NOW.minusDays(1)));
+        Assertions.assertEquals(new BookingDtoShort(5, 2), approvedBookingIndex.findNext(1, NOW));
+        Assertions.assertEquals(new BookingDtoShort(6, 2), approvedBookingIndex.findLast(1, NOW));
+    }
+
+    @Test
+    void addToMissedItemIsIgnored() {
+        approvedBookingIndex.add(booking(5, NOW.plusDays(1), NOW.plusDays(2)));
+        Assertions.assertFalse(approvedBookingIndex.contains(1));
+        Assertions.assertNull(approvedBookingIndex.findNext(1, NOW));
+    }
+
+    @Test
+    void clearDropsLoadedItems() {
+        approvedBookingIndex.load(List.of(1));
+        approvedBookingIndex.clear();
+        Assertions.assertFalse(approvedBookingIndex.contains(1));
+    }
+
+    @Test
+    void approvalDuringLoadIsNotLost() {
+        Mockito
+                .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    approvedBookingIndex.add(booking(5, NOW.plusDays(1), NOW.plusDays(2)));
+                    return List.of();
+                });
+        approvedBookingIndex.load(List.of(1));
+        Assertions.assertFalse(approvedBookingIndex.contains(1));
+    }
+
+    @Test
+    void approvalOfOtherItemDuringLoadKeepsLoadedItem() {
+        Mockito
+                .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    approvedBookingIndex.add(new Booking(5, otherItem, booker, BookingStatus.APPROVED,
+                            NOW.plusDays(1), NOW.plusDays(2)));
+                    return List.of();
+                });
+        approvedBookingIndex.load(List.of(1));
+        Assertions.assertTrue(approvedBookingIndex.contains(1));
+    }
+
+    @Test
+    void addDropsBookingsBeforeLastStarted() {
+        Mockito
+                .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                .thenReturn(List.of(view(1, 1, NOW.minusDays(5)),
+                        view(2, 1, NOW.minusDays(2)),
+                        view(3, 1, NOW.plusDays(3))));
+        approvedBookingIndex.load(List.of(1));
+        approvedBookingIndex.add(booking(5, NOW.plusDays(1), NOW.plusDays(2)));
+        Assertions.assertNull(approvedBookingIndex.findLast(1, NOW.minusDays(3)));
+        Assertions.assertEquals(new BookingDtoShort(2, 2), approvedBookingIndex.findLast(1, NOW));
+        Assertions.assertEquals(new BookingDtoShort(5, 2), approvedBookingIndex.findNext(1, NOW));
+    }
+
+    @Test
+    void concurrentApprovalIsVisibleOrItemIsReloaded() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            ApprovedBookingIndex index = new ApprovedBookingIndex(mockBookingRepository);
+            CountDownLatch loaded = new CountDownLatch(1);
+            Mockito
+                    .when(mockBookingRepository.findRelevantApprovedByItemIds(Mockito.eq(List.of(1)), Mockito.any()))
+                    .thenAnswer(invocation -> {
+                        loaded.countDown();
+                        return List.of();
+                    });
+            CompletableFuture<Void> approval = CompletableFuture.runAsync(() -> {
+                try {
+                    loaded.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                index.add(booking(5, NOW.plusDays(1), NOW.plusDays(2)));
+            });
+            index.load(List.of(1));
+            approval.get();
+            Assertions.assertTrue(!index.contains(1) || index.findNext(1, NOW) != null,
+                    "Подтвержденное бронирование потеряно в индексе.");
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.ApprovedBookingIndex;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.NewBookingDto;
+import ru.practicum.shareit.exceptions.exceptions.WrongParameter;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SpringBootTest
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class BookingConcurrencyTests {
+
+    private static final int THREADS = 32;
+
+    private static final int RESERVATION_THREADS = 64;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ApprovedBookingIndex approvedBookingIndex;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void clearIndex() {
+        approvedBookingIndex.clear();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void concurrentUpdateHasSingleWinner(boolean approved) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger winners = new AtomicInteger();
+        AtomicInteger losers = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    bookingService.update(1, 1, approved);
+                    winners.incrementAndGet();
+                } catch (WrongParameter exception) {
+                    losers.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Assertions.assertEquals(1, winners.get(), "Заявку должен подтвердить ровно один запрос.");
+        Assertions.assertEquals(THREADS - 1, losers.get());
+        Assertions.assertEquals(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED,
+                bookingRepository.findById(1).orElseThrow().getStatus());
+    }
+
+    @Test
+    void concurrentReservationsOfOneItemDoNotOverlap() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(RESERVATION_THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        AtomicInteger approved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < RESERVATION_THREADS; i++) {
+            NewBookingDto dto = new NewBookingDto(2, start.plusHours(i % 4), start.plusHours(i % 4 + 6));
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    BookingDto booking = bookingService.save(dto, 2);
+                    bookingService.update(booking.getId(), 1, true);
+                    approved.incrementAndGet();
+                } catch (WrongParameter exception) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        Assertions.assertEquals(1, approved.get(), "Пересекающиеся бронирования не могут быть подтверждены.");
+        Assertions.assertEquals(RESERVATION_THREADS - 1, rejected.get());
+        Assertions.assertEquals(1, bookingRepository.findAll().stream()
+                .filter(booking -> booking.getItem().getId() == 2)
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED)
+                .count());
+    }
+
+}
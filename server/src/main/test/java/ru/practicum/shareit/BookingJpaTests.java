@@ -23,7 +23,7 @@ import java.util.List;
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @Transactional
-@Sql(value = {"/schema.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 class BookingJpaTests {
 
@@ -38,6 +38,15 @@ class BookingJpaTests {
         Assertions.assertNotNull(em);
     }
 
+    @Test
+    void updateStatusIfWaitingIncrementsVersion() {
+        Assertions.assertEquals(0, bookingRepository.findById(1).orElseThrow().getVersion());
+        em.clear();
+        Assertions.assertEquals(1, bookingRepository.updateStatusIfWaiting(1, BookingStatus.APPROVED));
+        em.clear();
+        Assertions.assertEquals(1, bookingRepository.findById(1).orElseThrow().getVersion());
+    }
+
     @Test
     void findByBookerIdEqualsOrderByStartDescWithPage() {
         User owner = new User(1, "User1", "email1@email.com");
@@ -192,6 +201,90 @@ class BookingJpaTests {
                 LocalDateTime.of(2022,11,20,9,0), BookingStatus.WAITING));
     }
 
+    @Test
+    void findByBookerBeforeCursor() {
+        User owner = new User(1, "User1", "email1@email.com");
+        User booker = new User(2, "User2", "email2@email.com");
+        Item item1 = new Item(1, "Item1", "description1", true, owner, null);
+        Booking booking1 = new Booking(1, item1, booker, BookingStatus.WAITING,
+                LocalDateTime.of(2022,8,18,9,0),
+                LocalDateTime.of(2022,9,18,9,0));
+        Booking booking5 = new Booking(5, item1, booker, BookingStatus.APPROVED,
+                LocalDateTime.of(2021,8,18,9,0),
+                LocalDateTime.of(2021,9,18,9,0));
+        Assertions.assertEquals(List.of(booking1, booking5), bookingRepository.findByBookerBeforeCursor(2,
+                LocalDateTime.of(2022,10,18,9,0), 2, PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void findByOwnerAndStatusBeforeCursor() {
+        User owner = new User(1, "User1", "email1@email.com");
+        User booker = new User(2, "User2", "email2@email.com");
+        Item item1 = new Item(1, "Item1", "description1", true, owner, null);
+        Booking booking1 = new Booking(1, item1, booker, BookingStatus.WAITING,
+                LocalDateTime.of(2022,8,18,9,0),
+                LocalDateTime.of(2022,9,18,9,0));
+        Booking booking2 = new Booking(2, item1, booker, BookingStatus.WAITING,
+                LocalDateTime.of(2022,10,18,9,0),
+                LocalDateTime.of(2022,11,18,9,0));
+        Assertions.assertEquals(List.of(booking2, booking1), bookingRepository.findByOwnerAndStatusBeforeCursor(1,
+                BookingStatus.WAITING, LocalDateTime.of(2022,10,18,9,0), 3, PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void findByOwnerAndStatusBeforeCursorOrdersEqualStartsById() {
+        User owner = new User(1, "User1", "email1@email.com");
+        User booker2 = new User(2, "User2", "email2@email.com");
+        User booker3 = new User(3, "User3", "email3@email.com");
+        Item item1 = new Item(1, "Item1", "description1", true, owner, null);
+        Item item2 = new Item(2, "Item2", "description2", true, owner, null);
+        Booking booking2 = new Booking(2, item1, booker2, BookingStatus.WAITING,
+                LocalDateTime.of(2022,10,18,9,0),
+                LocalDateTime.of(2022,11,18,9,0));
+        Booking booking3 = new Booking(3, item2, booker3, BookingStatus.WAITING,
+                LocalDateTime.of(2022,10,18,9,0),
+                LocalDateTime.of(2022,11,18,9,0));
+        Assertions.assertEquals(List.of(booking3, booking2), bookingRepository.findByOwnerAndStatusBeforeCursor(1,
+                BookingStatus.WAITING, LocalDateTime.of(2022,12,18,9,0), 4, PageRequest.of(0, 2)));
+    }
+
+    @Test
+    void findNextApprovedByItemIds() {
+        User owner = new User(1, "User1", "email1@email.com");
+        User booker = new User(2, "User2", "email2@email.com");
+        Item item1 = new Item(1, "Item1", "description1", true, owner, null);
+        Booking booking5 = new Booking(5, item1, booker, BookingStatus.APPROVED,
+                LocalDateTime.of(2021,8,18,9,0),
+                LocalDateTime.of(2021,9,18,9,0));
+        Assertions.assertEquals(List.of(booking5), List.copyOf(bookingRepository.findNextApprovedByItemIds(List.of(1, 2),
+                LocalDateTime.of(2021,1,1,9,0))));
+    }
+
+    @Test
+    void findLastApprovedByItemIds() {
+        User owner = new User(1, "User1", "email1@email.com");
+        User booker = new User(2, "User2", "email2@email.com");
+        Item item1 = new Item(1, "Item1", "description1", true, owner, null);
+        Booking booking5 = new Booking(5, item1, booker, BookingStatus.APPROVED,
+                LocalDateTime.of(2021,8,18,9,0),
+                LocalDateTime.of(2021,9,18,9,0));
+        Assertions.assertEquals(List.of(booking5), List.copyOf(bookingRepository.findLastApprovedByItemIds(List.of(1, 2),
+                LocalDateTime.of(2022,1,1,9,0))));
+        Assertions.assertTrue(bookingRepository.findLastApprovedByItemIds(List.of(1, 2),
+                LocalDateTime.of(2021,1,1,9,0)).isEmpty());
+    }
+
+    @Test
+    void findNextAndLastApprovedByItemIdsLoadVersion() {
+        Booking next = List.copyOf(bookingRepository.findNextApprovedByItemIds(List.of(1),
+                LocalDateTime.of(2021,1,1,9,0))).get(0);
+        Booking last = List.copyOf(bookingRepository.findLastApprovedByItemIds(List.of(1),
+                LocalDateTime.of(2022,1,1,9,0))).get(0);
+        Assertions.assertEquals(bookingRepository.findVersionById(5).orElseThrow().getVersion(), next.getVersion());
+        Assertions.assertEquals(next.getVersion(), last.getVersion());
+        Assertions.assertEquals(BookingStatus.APPROVED, last.getStatus());
+    }
+
     @Test
     void existsByBookerIdAndItemIdAndEndBeforeOrderByStartDesc() {
         Assertions.assertTrue(bookingRepository.existsBookingByBooker_IdAndItem_IdAndEndBefore(2, 1,
@@ -5,25 +5,39 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.booking.BookingController;
 import ru.practicum.shareit.booking.BookingService;
 import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
+import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -35,6 +49,9 @@ class BookingMvcTests {
     @MockBean
     private BookingService bookingService;
 
+    @MockBean
+    private UserExistenceIndex userExistenceIndex;
+
     @Autowired
     private MockMvc mvc;
 
@@ -149,6 +166,8 @@ class BookingMvcTests {
                 .booker(userDto)
                 .item(itemDto)
                 .build();
+        when(bookingService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("booking-1-0-0-0");
         when(bookingService.findById(anyInt(), anyInt()))
                 .thenReturn(bookingDto);
         mvc.perform(get("/bookings/1")
@@ -167,6 +186,32 @@ class BookingMvcTests {
                 .andExpect(jsonPath("$.item.available", is(bookingDto.getItem().getAvailable())));
     }
 
+    @Test
+    void findByIdNotModified() throws Exception {
+        when(bookingService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("booking-1-1-0-0");
+        mvc.perform(get("/bookings/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"booking-1-1-0-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"booking-1-1-0-0\""));
+        verify(bookingService, never()).findById(anyInt(), anyInt());
+    }
+
+    @Test
+    void findByIdModified() throws Exception {
+        when(bookingService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("booking-1-2-0-0");
+        when(bookingService.findById(anyInt(), anyInt()))
+                .thenReturn(BookingDto.builder().id(1).status(BookingStatus.APPROVED).build());
+        mvc.perform(get("/bookings/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"booking-1-1-0-0\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"booking-1-2-0-0\""))
+                .andExpect(jsonPath("$.status", is("APPROVED")));
+    }
+
     @Test
     void findByState() throws Exception {
         UserDto userDto = UserDto.builder()
@@ -255,6 +300,133 @@ class BookingMvcTests {
                 .andExpect(jsonPath("$.[0].item.available", is(bookings.get(0).getItem().getAvailable())));
     }
 
+    @Test
+    void findByOwnerWithCursor() throws Exception {
+        UserDto userDto = UserDto.builder()
+                .id(1)
+                .name("User1")
+                .email("email@email.com")
+                .build();
+        ItemDto itemDto = ItemDto.builder()
+                .id(1)
+                .name("Item1")
+                .description("description")
+                .available(true)
+                .build();
+        BookingDto bookingDto = BookingDto.builder()
+                .id(1)
+                .start(LocalDateTime.of(2011, 11, 11, 11, 11, 11))
+                .end(LocalDateTime.of(2011, 12, 12, 12, 12, 12))
+                .status(BookingStatus.APPROVED)
+                .booker(userDto)
+                .item(itemDto)
+                .build();
+        List<BookingDto> bookings = List.of(bookingDto);
+        when(bookingService.findByOwnerAfter(any(), anyInt(), anyString(), anyInt()))
+                .thenReturn(bookings);
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("after", "")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", BookingCursor.of(bookingDto).encode()))
+                .andExpect(jsonPath("$.size()", is(bookings.size())))
+                .andExpect(jsonPath("$.[0].id", is(bookings.get(0).getId())));
+    }
+
+    @Test
+    void findByStateWithCursorLastPage() throws Exception {
+        when(bookingService.findByStateAfter(any(), anyInt(), anyString(), anyInt()))
+                .thenReturn(List.of());
+        mvc.perform(get("/bookings")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("after", BookingCursor.of(BookingDto.builder()
+                                .id(1)
+                                .start(LocalDateTime.of(2011, 11, 11, 11, 11, 11))
+                                .build()).encode())
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$.size()", is(0)));
+    }
+
+    @Test
+    void exportByOwner() throws Exception {
+        BookingDto bookingDto = BookingDto.builder()
+                .id(1)
+                .start(LocalDateTime.of(2011, 11, 11, 11, 11, 11))
+                .end(LocalDateTime.of(2011, 12, 12, 12, 12, 12))
+                .status(BookingStatus.APPROVED)
+                .booker(UserDto.builder().id(2).name("User2").email("email2@email.com").build())
+                .item(ItemDto.builder().id(1).name("Item1").description("description").available(true).build())
+                .build();
+        doAnswer(invocation -> {
+            Consumer<BookingDto> action = invocation.getArgument(1);
+            action.accept(bookingDto);
+            return null;
+        }).when(bookingService).exportByOwner(anyInt(), any());
+        MvcResult result = mvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(mapper.writeValueAsString(bookingDto) + "\n"));
+    }
 
+    @Test
+    void exportByOwnerWrongUserId() throws Exception {
+        doThrow(new UserNotFound(99)).when(userExistenceIndex).checkExists(99);
+        mvc.perform(get("/bookings/owner/export")
+                        .header("X-Sharer-User-Id", 99))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error", is("Пользователь с ID 99 не найден.")));
+        verify(bookingService, never()).exportByOwner(anyInt(), any());
+    }
+
+    @Test
+    void saveAll() throws Exception {
+        List<NewBookingDto> dtos = List.of(
+                NewBookingDto.builder()
+                        .itemId(1)
+                        .start(LocalDateTime.of(2030, 11, 11, 11, 11, 11))
+                        .end(LocalDateTime.of(2030, 12, 12, 12, 12, 12))
+                        .build(),
+                NewBookingDto.builder()
+                        .itemId(99)
+                        .start(LocalDateTime.of(2030, 11, 11, 11, 11, 11))
+                        .end(LocalDateTime.of(2030, 12, 12, 12, 12, 12))
+                        .build());
+        List<BookingBatchResult> results = List.of(
+                BookingBatchResult.builder()
+                        .booking(BookingDto.builder()
+                                .id(7)
+                                .start(dtos.get(0).getStart())
+                                .end(dtos.get(0).getEnd())
+                                .status(BookingStatus.WAITING)
+                                .build())
+                        .build(),
+                BookingBatchResult.builder()
+                        .error("Предмет с ID 99 не найден.")
+                        .build());
+        when(bookingService.saveAll(anyList(), anyInt()))
+                .thenReturn(results);
+        mvc.perform(post("/bookings/batch")
+                        .content(mapper.writeValueAsString(dtos))
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .header("X-Sharer-User-Id", 2))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(2)))
+                .andExpect(jsonPath("$[0].booking.id", is(7)))
+                .andExpect(jsonPath("$[0].error").doesNotExist())
+                .andExpect(jsonPath("$[1].booking").doesNotExist())
+                .andExpect(jsonPath("$[1].error", is("Предмет с ID 99 не найден.")));
+        verify(bookingService).saveAll(dtos, 2);
+    }
 
-}
\ No newline at end of file
+}
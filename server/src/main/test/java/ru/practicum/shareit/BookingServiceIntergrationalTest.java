@@ -21,7 +21,7 @@ import java.util.List;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@Sql(value = {"/schema.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Transactional
 class BookingServiceIntergrationalTest {
@@ -123,18 +123,19 @@ class BookingServiceIntergrationalTest {
                 .build();
         NewBookingDto fromDto = NewBookingDto.builder()
                 .itemId(1)
-                .start(LocalDateTime.of(2023, 12, 18, 9, 0))
-                .end(LocalDateTime.of(2023, 12, 20, 9, 0))
+                .start(LocalDateTime.of(2123, 12, 18, 9, 0))
+                .end(LocalDateTime.of(2123, 12, 20, 9, 0))
                 .build();
+        BookingDto booking = bookingService.save(fromDto, 3);
         BookingDto dto7 = BookingDto.builder()
-                .id(7)
+                .id(booking.getId())
                 .item(itemDto1)
                 .booker(userDto)
                 .status(BookingStatus.WAITING)
-                .start(LocalDateTime.of(2023, 12, 18, 9, 0))
-                .end(LocalDateTime.of(2023, 12, 20, 9, 0))
+                .start(LocalDateTime.of(2123, 12, 18, 9, 0))
+                .end(LocalDateTime.of(2123, 12, 20, 9, 0))
                 .build();
-        Assertions.assertEquals(dto7, bookingService.save(fromDto, 3));
+        Assertions.assertEquals(dto7, booking);
     }
 
     @Test
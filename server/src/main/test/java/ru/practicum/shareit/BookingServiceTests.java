@@ -1,13 +1,19 @@
 package ru.practicum.shareit;
 
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.booking.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingVersionView;
 import ru.practicum.shareit.booking.dto.NewBookingDto;
 import ru.practicum.shareit.booking.strategies.by.owner.FindByOwnerAll;
 import ru.practicum.shareit.booking.strategies.by.owner.StrategyByOwnerFactory;
@@ -21,12 +27,20 @@ import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 class BookingServiceTests {
@@ -43,6 +57,8 @@ class BookingServiceTests {
 
     private final BookingMapper mockBookingMapper = Mockito.mock(BookingMapper.class);
 
+    private final ApprovedBookingIndex mockApprovedBookingIndex = Mockito.mock(ApprovedBookingIndex.class);
+
     private final StrategyByOwnerFactory mockStrategyByOwnerFactory = Mockito.mock(StrategyByOwnerFactory.class);
 
     private final StrategyByStateFactory mockStrategyByStateFactory = Mockito.mock(StrategyByStateFactory.class);
@@ -51,8 +67,11 @@ class BookingServiceTests {
 
     private final FindByOwnerAll mockFindByOwnerAll = Mockito.mock(FindByOwnerAll.class);
 
+    private final EntityManager mockEntityManager = Mockito.mock(EntityManager.class);
+
     private final BookingService bookingService = new BookingServiceImpl(mockUserRepository, mockItemRepository,
-            mockBookingRepository, mockBookingMapper, mockStrategyByOwnerFactory, mockStrategyByStateFactory);
+            mockBookingRepository, mockBookingMapper, mockApprovedBookingIndex, mockStrategyByOwnerFactory, mockStrategyByStateFactory,
+            new UserExistenceIndex(mockUserRepository), mockEntityManager);
 
     @Test
     void saveNormal() {
@@ -85,7 +104,7 @@ class BookingServiceTests {
                 .item(itemDto)
                 .build();
         Mockito
-                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any()))
+                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenReturn(newBooking);
         Mockito
                 .when(mockUserRepository.findById(Mockito.anyInt()))
@@ -101,6 +120,91 @@ class BookingServiceTests {
                 .thenReturn(bookingDto);
         Assertions.assertEquals(bookingDto, bookingService.save(newBookingDto, 1),
                 "Ошибка при нормальном сохранении нового бронирования.");
+        Mockito.verify(mockItemRepository, Mockito.times(1)).findById(1);
+    }
+
+    @Test
+    void saveAllReturnsResultPerEntry() {
+        User user = new User(1, "User1", "email@email.com");
+        User owner = new User(2, "User2", "email2@email.com");
+        Item item = new Item(1, "Item1", "description", true, owner, null);
+        Item unavailableItem = new Item(3, "Item3", "description", false, owner, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Booking approved = new Booking(10, item, user, BookingStatus.APPROVED, start.plusDays(10), start.plusDays(12));
+        List<NewBookingDto> dtos = List.of(
+                new NewBookingDto(1, start, start.plusDays(1)),
+                new NewBookingDto(99, start, start.plusDays(1)),
+                new NewBookingDto(3, start, start.plusDays(1)),
+                new NewBookingDto(1, start.plusDays(11), start.plusDays(13)),
+                new NewBookingDto(1, start.plusDays(1), start),
+                new NewBookingDto(null, start, start.plusDays(1)));
+        Mockito
+                .when(mockUserRepository.findById(1))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(mockItemRepository.findAllById(Set.of(1, 3, 99)))
+                .thenReturn(List.of(item, unavailableItem));
+        Mockito
+                .when(mockBookingRepository.findApprovedOverlapping(Set.of(1, 3), start, start.plusDays(13)))
+                .thenReturn(List.of(approved));
+        Mockito
+                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenAnswer(invocation -> {
+                    NewBookingDto dto = invocation.getArgument(0);
+                    return new Booking(7, invocation.getArgument(2), invocation.getArgument(1), null, dto.getStart(), dto.getEnd());
+                });
+        Mockito
+                .when(mockBookingMapper.toDto(Mockito.any(Booking.class)))
+                .thenAnswer(invocation -> {
+                    Booking booking = invocation.getArgument(0);
+                    return BookingDto.builder().id(booking.getId()).status(booking.getStatus()).build();
+                });
+        List<BookingBatchResult> results = bookingService.saveAll(dtos, 1);
+        Assertions.assertEquals(List.of(
+                new BookingBatchResult(BookingDto.builder().id(7).status(BookingStatus.WAITING).build(), null),
+                new BookingBatchResult(null, "Предмет с ID 99 не найден."),
+                new BookingBatchResult(null, "Предмет с ID 3 не доступен."),
+                new BookingBatchResult(null, "Предмет с ID 1 уже забронирован на указанный период."),
+                new BookingBatchResult(null, "Конец не может быть раньше начала."),
+                new BookingBatchResult(null, "Не указан предмет.")), results);
+        Mockito.verify(mockBookingRepository).saveAll(Mockito.argThat(bookings -> {
+            List<Booking> saved = new ArrayList<>();
+            bookings.forEach(saved::add);
+            return saved.size() == 1 && saved.get(0).getStatus() == BookingStatus.WAITING;
+        }));
+        Mockito.verify(mockItemRepository, Mockito.never()).findById(Mockito.anyInt());
+    }
+
+    @Test
+    void saveAllByOwnerReportsEntry() {
+        User owner = new User(2, "User2", "email2@email.com");
+        Item item = new Item(1, "Item1", "description", true, owner, null);
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Mockito
+                .when(mockUserRepository.findById(2))
+                .thenReturn(Optional.of(owner));
+        Mockito
+                .when(mockItemRepository.findAllById(Set.of(1)))
+                .thenReturn(List.of(item));
+        List<BookingBatchResult> results = bookingService.saveAll(List.of(new NewBookingDto(1, start, start.plusDays(1))), 2);
+        Assertions.assertEquals(List.of(new BookingBatchResult(null, "Собственник не может создавать запрос на свою вещь.")), results);
+    }
+
+    @Test
+    void saveAllWrongUserId() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        Assertions.assertThrows(UserNotFound.class,
+                () -> bookingService.saveAll(List.of(new NewBookingDto(1, start, start.plusDays(1))), 99));
+        Mockito.verify(mockBookingRepository, Mockito.never()).saveAll(Mockito.any());
+    }
+
+    @Test
+    void saveAllWrongBatchSize() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        WrongParameter empty = Assertions.assertThrows(WrongParameter.class, () -> bookingService.saveAll(List.of(), 1));
+        Assertions.assertEquals("Пакет должен содержать от 1 до 1000 бронирований.", empty.getMessage());
+        List<NewBookingDto> tooMany = Collections.nCopies(1001, new NewBookingDto(1, start, start.plusDays(1)));
+        Assertions.assertThrows(WrongParameter.class, () -> bookingService.saveAll(tooMany, 1));
     }
 
     @Test
@@ -115,7 +219,7 @@ class BookingServiceTests {
                 .build();
         Booking newBooking = new Booking(1, item, user, BookingStatus.WAITING, newBookingDto.getStart(), newBookingDto.getEnd());
         Mockito
-                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any()))
+                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenReturn(newBooking);
         Mockito
                 .when(mockUserRepository.findById(Mockito.anyInt()))
@@ -139,7 +243,7 @@ class BookingServiceTests {
                 .build();
         Booking newBooking = new Booking(1, item, user, BookingStatus.WAITING, newBookingDto.getStart(), newBookingDto.getEnd());
         Mockito
-                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any()))
+                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any(), Mockito.any()))
                 .thenReturn(newBooking);
         Mockito
                 .when(mockUserRepository.findById(Mockito.anyInt()))
@@ -151,6 +255,34 @@ class BookingServiceTests {
         Assertions.assertEquals("Предмет с ID 1 не доступен.", exception.getMessage());
     }
 
+    @Test
+    void saveOverlappingApprovedBooking() {
+        User user = new User(1, "User1", "email@email.com");
+        User owner = new User(2, "User2", "email2@email.com");
+        Item item = new Item(1, "Item1", "description", true, owner, null);
+        NewBookingDto newBookingDto = NewBookingDto.builder()
+                .itemId(1)
+                .start(LocalDateTime.now().plusHours(1))
+                .end(LocalDateTime.now().plusHours(12))
+                .build();
+        Booking newBooking = new Booking(1, item, user, BookingStatus.WAITING, newBookingDto.getStart(), newBookingDto.getEnd());
+        Mockito
+                .when(mockBookingMapper.fromDto(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(newBooking);
+        Mockito
+                .when(mockUserRepository.findById(Mockito.anyInt()))
+                .thenReturn(Optional.of(user));
+        Mockito
+                .when(mockItemRepository.findById(Mockito.anyInt()))
+                .thenReturn(Optional.of(item));
+        Mockito
+                .when(mockBookingRepository.existsApprovedOverlapping(1, newBookingDto.getStart(), newBookingDto.getEnd()))
+                .thenReturn(true);
+        WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> bookingService.save(newBookingDto, 1));
+        Assertions.assertEquals("Предмет с ID 1 уже забронирован на указанный период.", exception.getMessage());
+        Mockito.verify(mockBookingRepository, Mockito.never()).save(Mockito.any());
+    }
+
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void saveWrongUserId(int userId) {
@@ -194,13 +326,14 @@ class BookingServiceTests {
                 .when(mockBookingRepository.findById(Mockito.anyInt()))
                 .thenReturn(Optional.of(newBooking));
         Mockito
-                .when(mockBookingRepository.save(Mockito.any()))
-                .thenReturn(newBookingAfterUpdate);
+                .when(mockBookingRepository.updateStatusIfWaiting(1, BookingStatus.APPROVED))
+                .thenReturn(1);
         Mockito
-                .when(mockBookingMapper.toDto(Mockito.any(Booking.class)))
+                .when(mockBookingMapper.toDto(newBookingAfterUpdate))
                 .thenReturn(bookingDto);
         Assertions.assertEquals(bookingDto, bookingService.update(1, 2, true),
                 "Ошибка при нормальном подтверждении бронирования.");
+        Mockito.verify(mockApprovedBookingIndex).add(newBooking);
     }
 
     @ParameterizedTest
@@ -226,6 +359,24 @@ class BookingServiceTests {
                 "Ошибка при подтверждении бронирования с неправильным указанием бронирования.");
     }
 
+    @Test
+    void updateAlreadyDecidedConcurrently() {
+        User user = new User(1, "User1", "email@email.com");
+        User owner = new User(2, "User2", "email2@email.com");
+        Item item = new Item(1, "Item1", "description", true, owner, null);
+        Booking newBooking = new Booking(1, item, user, BookingStatus.WAITING, LocalDateTime.now().plusHours(1), LocalDateTime.now().plusHours(2));
+        Mockito
+                .when(mockBookingRepository.findById(Mockito.anyInt()))
+                .thenReturn(Optional.of(newBooking));
+        Mockito
+                .when(mockBookingRepository.updateStatusIfWaiting(1, BookingStatus.APPROVED))
+                .thenReturn(0);
+        WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> bookingService.update(1, 2, true));
+        Assertions.assertEquals("Данная заявка уже подтверждена.", exception.getMessage(),
+                "Ошибка при повторном подтверждении бронирования.");
+        Assertions.assertEquals(BookingStatus.WAITING, newBooking.getStatus());
+    }
+
     @Test
     void findByIdNormal() {
         User user = new User(1, "User1", "email@email.com");
@@ -289,9 +440,44 @@ class BookingServiceTests {
                 "Ошибка при поиске бронирования с неправильным указанием бронирования.");
     }
 
+    @Test
+    void findEtagByIdChangesWithVersions() {
+        Mockito
+                .when(mockBookingRepository.findVersionById(Mockito.anyInt()))
+                .thenReturn(Optional.of(bookingVersion(0, 0, 0)))
+                .thenReturn(Optional.of(bookingVersion(0, 0, 0)))
+                .thenReturn(Optional.of(bookingVersion(1, 0, 0)))
+                .thenReturn(Optional.of(bookingVersion(1, 1, 0)));
+        String etag = bookingService.findEtagById(1, 1);
+        Assertions.assertEquals(etag, bookingService.findEtagById(1, 2));
+        String approvedEtag = bookingService.findEtagById(1, 1);
+        Assertions.assertNotEquals(etag, approvedEtag);
+        Assertions.assertNotEquals(approvedEtag, bookingService.findEtagById(1, 1));
+        Mockito.verify(mockBookingRepository, Mockito.never()).findById(Mockito.anyInt());
+        Mockito.verifyNoInteractions(mockBookingMapper);
+    }
+
+    @Test
+    void findEtagByIdWrongUserId() {
+        Mockito
+                .when(mockBookingRepository.findVersionById(Mockito.anyInt()))
+                .thenReturn(Optional.of(bookingVersion(0, 0, 0)));
+        Assertions.assertThrows(UserNotFound.class, () -> bookingService.findEtagById(1, 3));
+    }
+
+    @Test
+    void findEtagByIdWrongBookingId() {
+        Assertions.assertThrows(BookingNotFound.class, () -> bookingService.findEtagById(99, 1));
+    }
+
+    private static BookingVersionView bookingVersion(int version, int itemVersion, int bookerVersion) {
+        return new SpelAwareProxyProjectionFactory().createProjection(BookingVersionView.class,
+                Map.of("version", version, "itemVersion", itemVersion, "bookerVersion", bookerVersion,
+                        "ownerId", 2, "bookerId", 1));
+    }
+
     @Test
     void findByStateNormalWithPage() {
-        User user = new User(1, "User1", "email@email.com");
         UserDto userDto = UserDto.builder()
                 .id(2)
                 .name("User2")
@@ -313,8 +499,8 @@ class BookingServiceTests {
                 .build();
 
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByStateAll);
@@ -327,7 +513,6 @@ class BookingServiceTests {
 
     @Test
     void findByStateNormalWithoutPage() {
-        User user = new User(1, "User1", "email@email.com");
         UserDto userDto = UserDto.builder()
                 .id(2)
                 .name("User2")
@@ -363,8 +548,8 @@ class BookingServiceTests {
                 .build();
         List<BookingDto> requests = List.of(bookingDto1, bookingDto2);
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByStateAll);
@@ -378,6 +563,9 @@ class BookingServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByStateWrongUserIdWithPage(int userId) {
+        Mockito
+                .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByStateAll);
         UserNotFound exception = Assertions.assertThrows(UserNotFound.class, () -> bookingService.findByState(BookingState.valueOf("ALL"), userId, 0, 1));
         Assertions.assertEquals("Пользователь с ID " + userId + " не найден.", exception.getMessage(),
                 "Ошибка при поиске брони по состоянию с неправильным указанием пользователя с пагинацией.");
@@ -386,11 +574,30 @@ class BookingServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByStateWrongUserIdWithoutPage(int userId) {
+        Mockito
+                .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByStateAll);
         UserNotFound exception = Assertions.assertThrows(UserNotFound.class, () -> bookingService.findByState(BookingState.valueOf("ALL"), userId, null, 1));
         Assertions.assertEquals("Пользователь с ID " + userId + " не найден.", exception.getMessage(),
                 "Ошибка при поиске брони по состоянию с неправильным указанием пользователя без пагинации.");
     }
 
+    @Test
+    void findByStateNonEmptyPageSkipsUserCheck() {
+        BookingDto bookingDto = BookingDto.builder()
+                .id(1)
+                .status(BookingStatus.WAITING)
+                .build();
+        Mockito
+                .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByStateAll);
+        Mockito
+                .when(mockFindByStateAll.findByBookingState(Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt()))
+                .thenReturn(List.of(bookingDto));
+        Assertions.assertEquals(List.of(bookingDto), bookingService.findByState(BookingState.ALL, 1, 0, 1));
+        Mockito.verifyNoInteractions(mockUserRepository);
+    }
+
     @Test
     void findByStateWrongStateWithPage() {
         User user = new User(1, "User1", "email@email.com");
@@ -415,10 +622,9 @@ class BookingServiceTests {
 
     @Test
     void findByStateFromNegative() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByStateAll);
@@ -432,10 +638,9 @@ class BookingServiceTests {
 
     @Test
     void findByStateWrongSizeNegative() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByStateAll);
@@ -449,10 +654,9 @@ class BookingServiceTests {
 
     @Test
     void findByStateWrongSizeZero() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByStateAll);
@@ -466,7 +670,6 @@ class BookingServiceTests {
 
     @Test
     void findByOwnerNormalWithPage() {
-        User user = new User(1, "User1", "email@email.com");
         UserDto userDto = UserDto.builder()
                 .id(2)
                 .name("User2")
@@ -488,8 +691,8 @@ class BookingServiceTests {
                 .build();
 
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByOwnerAll);
@@ -502,7 +705,6 @@ class BookingServiceTests {
 
     @Test
     void findByOwnerNormalWithoutPage() {
-        User user = new User(1, "User1", "email@email.com");
         UserDto userDto = UserDto.builder()
                 .id(2)
                 .name("User2")
@@ -538,8 +740,8 @@ class BookingServiceTests {
                 .build();
         List<BookingDto> requests = List.of(bookingDto1, bookingDto2);
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByOwnerAll);
@@ -553,6 +755,9 @@ class BookingServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByOwnerWrongUserIdWithPage(int userId) {
+        Mockito
+                .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByOwnerAll);
         UserNotFound exception = Assertions.assertThrows(UserNotFound.class, () -> bookingService.findByOwner(BookingState.valueOf("ALL"), userId, 0, 1));
         Assertions.assertEquals("Пользователь с ID " + userId + " не найден.", exception.getMessage(),
                 "Ошибка при поиске брони по собственнику с неправильным указанием пользователя с пагинацией.");
@@ -561,6 +766,9 @@ class BookingServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByOwnerWrongUserIdWithoutPage(int userId) {
+        Mockito
+                .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByOwnerAll);
         UserNotFound exception = Assertions.assertThrows(UserNotFound.class, () -> bookingService.findByOwner(BookingState.valueOf("ALL"), userId, null, 1));
         Assertions.assertEquals("Пользователь с ID " + userId + " не найден.", exception.getMessage(),
                 "Ошибка при поиске брони по собственнику с неправильным указанием пользователя без пагинации.");
@@ -590,10 +798,9 @@ class BookingServiceTests {
 
     @Test
     void findByOwnerFromNegative() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByOwnerAll);
@@ -607,10 +814,9 @@ class BookingServiceTests {
 
     @Test
     void findByOwnerWrongSizeNegative() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByOwnerAll);
@@ -624,10 +830,9 @@ class BookingServiceTests {
 
     @Test
     void findByOwnerWrongSizeZero() {
-        User user = new User(1, "User1", "email@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
                 .thenReturn(mockFindByOwnerAll);
@@ -639,4 +844,78 @@ class BookingServiceTests {
                 "Ошибка при поиске брони по собственнику с неправильным указанием Size.");
     }
 
-}
\ No newline at end of file
+    @Test
+    void findByStateAfterFirstPage() {
+        BookingDto bookingDto = BookingDto.builder()
+                .id(2)
+                .start(LocalDateTime.now().plusHours(2))
+                .end(LocalDateTime.now().plusHours(3))
+                .status(BookingStatus.WAITING)
+                .build();
+        Mockito
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(mockStrategyByStateFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByStateAll);
+        Mockito
+                .when(mockFindByStateAll.findByBookingStateAfter(1, null, 1))
+                .thenReturn(List.of(bookingDto));
+        Assertions.assertEquals(List.of(bookingDto), bookingService.findByStateAfter(BookingState.ALL, 1, "", 1));
+    }
+
+    @Test
+    void findByOwnerAfterCursor() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2022, 12, 18, 9, 0), 4);
+        BookingDto bookingDto = BookingDto.builder()
+                .id(2)
+                .start(LocalDateTime.of(2022, 10, 18, 9, 0))
+                .end(LocalDateTime.of(2022, 11, 18, 9, 0))
+                .status(BookingStatus.WAITING)
+                .build();
+        Mockito
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(mockStrategyByOwnerFactory.findStrategy(Mockito.any()))
+                .thenReturn(mockFindByOwnerAll);
+        Mockito
+                .when(mockFindByOwnerAll.findByBookingStateAfter(1, cursor, 1))
+                .thenReturn(List.of(bookingDto));
+        Assertions.assertEquals(List.of(bookingDto), bookingService.findByOwnerAfter(BookingState.ALL, 1, cursor.encode(), 1));
+    }
+
+    @Test
+    void findByStateAfterWrongCursor() {
+        WrongParameter exception = Assertions.assertThrows(WrongParameter.class,
+                () -> bookingService.findByStateAfter(BookingState.ALL, 1, "wrong", 1));
+        Assertions.assertEquals("Указан некорректный курсор.", exception.getMessage());
+    }
+
+    @Test
+    void findByOwnerAfterWrongSize() {
+        WrongParameter exception = Assertions.assertThrows(WrongParameter.class,
+                () -> bookingService.findByOwnerAfter(BookingState.ALL, 1, "", 0));
+        Assertions.assertEquals("Указаны неправильные параметры.", exception.getMessage());
+    }
+
+    @Test
+    void exportByOwnerClearsPersistenceContextInBatches() {
+        Session session = Mockito.mock(Session.class);
+        Mockito
+                .when(mockEntityManager.unwrap(Session.class))
+                .thenReturn(session);
+        Mockito
+                .when(mockBookingRepository.streamByOwner(1))
+                .thenReturn(IntStream.rangeClosed(1, 2500).mapToObj(id -> Booking.builder().id(id).build()));
+        Mockito
+                .when(mockBookingMapper.toDto(Mockito.any(Booking.class)))
+                .thenAnswer(invocation -> BookingDto.builder().id(((Booking) invocation.getArgument(0)).getId()).build());
+        AtomicInteger exported = new AtomicInteger();
+        bookingService.exportByOwner(1, booking -> exported.incrementAndGet());
+        Assertions.assertEquals(2500, exported.get());
+        Mockito.verify(mockEntityManager, Mockito.times(2)).clear();
+        Mockito.verify(session).setCacheMode(CacheMode.IGNORE);
+    }
+
+}
@@ -0,0 +1,119 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.booking.BookingService;
+import ru.practicum.shareit.booking.BookingState;
+import ru.practicum.shareit.booking.dto.BookingBatchResult;
+import ru.practicum.shareit.booking.dto.NewBookingDto;
+import ru.practicum.shareit.booking.strategies.by.owner.StrategyByOwnerFactory;
+import ru.practicum.shareit.booking.strategies.by.state.StrategyByStateFactory;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Transactional
+class BookingStatementsTests {
+
+    @Autowired
+    private StrategyByStateFactory strategyByStateFactory;
+
+    @Autowired
+    private StrategyByOwnerFactory strategyByOwnerFactory;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void clearStatistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void findByStateRunsSingleQuery(BookingState state) {
+        strategyByStateFactory.findStrategy(state).findByBookingState(2, 0, 1);
+        Assertions.assertEquals(1, statistics.getQueryExecutionCount(),
+                "Страница бронирований не должна выполнять запрос count.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void findByOwnerRunsSingleQuery(BookingState state) {
+        strategyByOwnerFactory.findStrategy(state).findByBookingState(1, 0, 1);
+        Assertions.assertEquals(1, statistics.getQueryExecutionCount(),
+                "Страница бронирований не должна выполнять запрос count.");
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void findByStateMapsPageWithoutLazyLoading(BookingState state) {
+        strategyByStateFactory.findStrategy(state).findByBookingState(2, 0, 100);
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Страница бронирований загружена за " + statistics.getPrepareStatementCount() + " запросов.");
+        Assertions.assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(BookingState.class)
+    void findByOwnerMapsPageWithoutLazyLoading(BookingState state) {
+        strategyByOwnerFactory.findStrategy(state).findByBookingState(1, 0, 100);
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Страница бронирований загружена за " + statistics.getPrepareStatementCount() + " запросов.");
+        Assertions.assertEquals(0, statistics.getEntityFetchCount());
+    }
+
+    @Test
+    void saveLoadsUserAndItemOnce() {
+        entityManagerFactory.getCache().evictAll();
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        bookingService.save(new NewBookingDto(1, start, start.plusHours(1)), 2);
+        entityManager.flush();
+        Assertions.assertEquals(2, statistics.getEntityLoadCount());
+        Assertions.assertEquals(0, statistics.getEntityFetchCount());
+        Assertions.assertEquals(1, statistics.getQueryExecutionCount());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 5,
+                "Бронирование сохранено за " + statistics.getPrepareStatementCount() + " запросов.");
+    }
+
+    @Test
+    void saveAllInsertsInBatches() {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        List<NewBookingDto> dtos = IntStream.range(0, 120)
+                .mapToObj(i -> new NewBookingDto(i % 2 + 1, start.plusDays(i), start.plusDays(i).plusHours(1)))
+                .collect(Collectors.toList());
+        List<BookingBatchResult> results = bookingService.saveAll(dtos, 2);
+        entityManager.flush();
+        Assertions.assertTrue(results.stream().allMatch(result -> result.getError() == null));
+        Assertions.assertEquals(120, statistics.getEntityInsertCount());
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 9,
+                "Пакет из 120 бронирований сохранён за " + statistics.getPrepareStatementCount() + " запросов.");
+    }
+
+}
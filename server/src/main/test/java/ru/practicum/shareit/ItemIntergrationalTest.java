@@ -18,7 +18,7 @@ import java.util.List;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@Sql(value = {"/schema.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Transactional
 class ItemIntergrationalTest {
@@ -76,14 +76,15 @@ class ItemIntergrationalTest {
                 .available(true)
                 .requestId(null)
                 .build();
+        ItemDto item = itemService.save(3, fromDto);
         ItemDto dto = ItemDto.builder()
-                .id(5)
+                .id(item.getId())
                 .name(fromDto.getName())
                 .description(fromDto.getDescription())
                 .available(fromDto.getAvailable())
                 .requestId(null)
                 .build();
-        Assertions.assertEquals(dto, itemService.save(3, fromDto));
+        Assertions.assertEquals(dto, item);
     }
 
     @Test
@@ -94,14 +95,15 @@ class ItemIntergrationalTest {
                 .available(true)
                 .requestId(3)
                 .build();
+        ItemDto item = itemService.save(3, fromDto);
         ItemDto dto = ItemDto.builder()
-                .id(5)
+                .id(item.getId())
                 .name(fromDto.getName())
                 .description(fromDto.getDescription())
                 .available(fromDto.getAvailable())
                 .requestId(3)
                 .build();
-        Assertions.assertEquals(dto, itemService.save(3, fromDto));
+        Assertions.assertEquals(dto, item);
     }
 
     @Test
@@ -111,7 +113,7 @@ class ItemIntergrationalTest {
                 .build();
         CommentDto comment = itemService.saveComment(2, 1, fromDto);
         CommentDto commentDto = CommentDto.builder()
-                .id(2)
+                .id(comment.getId())
                 .text("text")
                 .created(comment.getCreated())
                 .authorName("User2")
@@ -5,23 +5,34 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.ItemService;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemDtoWithTime;
+import ru.practicum.shareit.user.UserExistenceIndex;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -33,6 +44,9 @@ class ItemMvcTests {
     @MockBean
     private ItemService itemService;
 
+    @MockBean
+    private UserExistenceIndex userExistenceIndex;
+
     @Autowired
     private MockMvc mvc;
 
@@ -95,6 +109,8 @@ class ItemMvcTests {
                 .description("Description1")
                 .available(true)
                 .build();
+        when(itemService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("item-1-0-0");
         when(itemService.findById(anyInt(), anyInt()))
                 .thenReturn(toDto);
         mvc.perform(get("/items/1")
@@ -106,6 +122,31 @@ class ItemMvcTests {
                 .andExpect(jsonPath("$.available", is(toDto.getAvailable())));
     }
 
+    @Test
+    void findByIdSetsEtag() throws Exception {
+        when(itemService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("item-1-0-0");
+        when(itemService.findById(anyInt(), anyInt()))
+                .thenReturn(ItemDtoWithTime.builder().id(1).build());
+        mvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"item-1-0-0\""));
+    }
+
+    @Test
+    void findByIdNotModified() throws Exception {
+        when(itemService.findEtagById(anyInt(), anyInt()))
+                .thenReturn("item-1-0-0");
+        mvc.perform(get("/items/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"item-1-0-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(itemService, times(1)).findEtagById(1, 1);
+        verify(itemService, never()).findById(anyInt(), anyInt());
+    }
+
     @Test
     void findByName() throws Exception {
         ItemDto toDto = ItemDto.builder()
@@ -187,4 +228,26 @@ class ItemMvcTests {
                 .andExpect(jsonPath("$.authorName", is(commentToDto.getAuthorName())));
     }
 
-}
\ No newline at end of file
+    @Test
+    void exportByOwner() throws Exception {
+        List<ItemDto> items = List.of(
+                ItemDto.builder().id(1).name("Item1").description("description1").available(true).build(),
+                ItemDto.builder().id(2).name("Item2").description("description2").available(false).build());
+        doAnswer(invocation -> {
+            Consumer<ItemDto> action = invocation.getArgument(1);
+            items.forEach(action);
+            return null;
+        }).when(itemService).exportByOwner(anyInt(), any());
+        MvcResult result = mvc.perform(get("/items/export")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(mapper.writeValueAsString(items.get(0)) + "\n"
+                        + mapper.writeValueAsString(items.get(1)) + "\n"));
+        verify(userExistenceIndex).checkExists(1);
+    }
+
+}
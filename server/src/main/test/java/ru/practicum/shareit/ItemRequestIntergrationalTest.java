@@ -16,7 +16,7 @@ import java.util.List;
 
 @SpringBootTest
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@Sql(value = {"/schema.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Transactional
 class ItemRequestIntergrationalTest {
@@ -42,7 +42,7 @@ class ItemRequestIntergrationalTest {
                 .build();
         ItemRequestDto request = itemRequestService.save(fromDto, 3);
         ItemRequestDto dto = ItemRequestDto.builder()
-                .id(4)
+                .id(request.getId())
                 .description("description4")
                 .created(request.getCreated())
                 .build();
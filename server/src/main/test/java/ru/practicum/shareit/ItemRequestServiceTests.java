@@ -16,6 +16,7 @@ import ru.practicum.shareit.request.ItemRequestServiceImpl;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
@@ -34,7 +35,7 @@ class ItemRequestServiceTests {
     private final UserRepository mockUserRepository = Mockito.mock(UserRepository.class);
 
     private final ItemRequestService itemRequestService = new ItemRequestServiceImpl(mockItemRequestRepository,
-            mockItemRequestMapper, mockUserRepository);
+            mockItemRequestMapper, mockUserRepository, new UserExistenceIndex(mockUserRepository));
 
     static Stream<Integer> wrongIdParameters() {
         return Stream.of(-1, 0, 99);
@@ -83,10 +84,9 @@ class ItemRequestServiceTests {
     void findAllEmpty() {
         Collection<ItemRequest> requests = new ArrayList<>();
         Collection<ItemRequestDto> toDto = new ArrayList<>();
-        User user = new User(1, "User1", "Email@Email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRequestRepository.findAll(Mockito.anyInt()))
                 .thenReturn(requests);
@@ -109,8 +109,8 @@ class ItemRequestServiceTests {
                 .build()
         );
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRequestRepository.findAll(Mockito.anyInt()))
                 .thenReturn(requests);
@@ -141,8 +141,8 @@ class ItemRequestServiceTests {
         Page<ItemRequest> requests = new PageImpl<>(List.of(itemRequest2));
         Collection<ItemRequestDto> toDto = List.of(itemRequestDto2);
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRequestRepository.findOthersRequests(Mockito.anyInt(), Mockito.any()))
                 .thenReturn(requests);
@@ -163,10 +163,9 @@ class ItemRequestServiceTests {
 
     @Test
     void findOthersRequestsFromNegative() {
-        User user = new User(1, "User1", "Email@Email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> itemRequestService.findOthersRequests(1, -1, 1));
         Assertions.assertEquals("Page index must not be less than zero", exception.getMessage(),
                 "Ошибка при поиске чужих запросов с неправильным указанием From.");
@@ -174,10 +173,9 @@ class ItemRequestServiceTests {
 
     @Test
     void findOthersRequestsSizeNegative() {
-        User user = new User(1, "User1", "Email@Email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> itemRequestService.findOthersRequests(1, 0, -1));
         Assertions.assertEquals("Page size must not be less than one", exception.getMessage(),
                 "Ошибка при поиске чужих запросов с неправильным указанием Size.");
@@ -185,10 +183,9 @@ class ItemRequestServiceTests {
 
     @Test
     void findOthersRequestsSizeZero() {
-        User user = new User(1, "User1", "Email@Email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class, () -> itemRequestService.findOthersRequests(1, 0, 0));
         Assertions.assertEquals("Page size must not be less than one", exception.getMessage(),
                 "Ошибка при поиске чужих запросов с неправильным указанием Size.");
@@ -209,8 +206,8 @@ class ItemRequestServiceTests {
                 .created(request.getCreated())
                 .build();
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRequestMapper.fromDto(Mockito.any(), Mockito.any()))
                 .thenReturn(fromDto);
@@ -235,10 +232,9 @@ class ItemRequestServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByIdWrongRequestId(int requestId) {
-        User user = new User(1, "User1", "Email@Email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(user));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         ItemRequestNotFound exception = Assertions.assertThrows(ItemRequestNotFound.class, () -> itemRequestService.findById(1, requestId));
         Assertions.assertEquals("Запрос с ID " + requestId + " не найден.", exception.getMessage(),
                 "Ошибка при поиске запросов по номеру с неправильным указанием запроса.");
@@ -0,0 +1,92 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.request.ItemRequest;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.request.dto.ItemRequestDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.transaction.Transactional;
+import java.util.Collection;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Transactional
+class ItemRequestStatementsTests {
+
+    private static final int REQUESTS = 100;
+
+    private static final int ITEMS_BATCH_SIZE = 100;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private UserExistenceIndex userExistenceIndex;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.find(User.class, 1);
+        User requester = entityManager.find(User.class, 2);
+        for (int i = 0; i < REQUESTS; i++) {
+            ItemRequest request = ItemRequest.builder()
+                    .owner(requester)
+                    .description("description" + i)
+                    .build();
+            entityManager.persist(request);
+            entityManager.persist(Item.builder()
+                    .name("Item" + i)
+                    .description("description" + i)
+                    .available(true)
+                    .owner(owner)
+                    .itemRequest(request)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        userExistenceIndex.checkExists(1);
+        userExistenceIndex.checkExists(2);
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findOthersRequestsLoadsItemsInBatch() {
+        Collection<ItemRequestDto> requests = itemRequestService.findOthersRequests(1, 0, REQUESTS);
+        Assertions.assertEquals(REQUESTS, requests.size());
+        Assertions.assertTrue(requests.stream().allMatch(request -> request.getItems().size() == 1));
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Запросы с вещами загружены за " + statistics.getPrepareStatementCount() + " запросов.");
+    }
+
+    @Test
+    void findAllLoadsItemsInBatch() {
+        Collection<ItemRequestDto> requests = itemRequestService.findAll(2);
+        Assertions.assertEquals(REQUESTS + 1, requests.size());
+        int itemBatches = (requests.size() + ITEMS_BATCH_SIZE - 1) / ITEMS_BATCH_SIZE;
+        Assertions.assertTrue(statistics.getPrepareStatementCount() <= 1 + itemBatches,
+                "Запросы с вещами загружены за " + statistics.getPrepareStatementCount() + " запросов.");
+    }
+
+}
@@ -7,6 +7,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import ru.practicum.shareit.booking.ApprovedBookingIndex;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.BookingStatus;
@@ -20,12 +22,16 @@ import ru.practicum.shareit.item.*;
 import ru.practicum.shareit.item.dto.*;
 import ru.practicum.shareit.request.ItemRequestRepository;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 
+import javax.persistence.EntityManager;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 class ItemServiceTests {
@@ -35,11 +41,14 @@ class ItemServiceTests {
     private final ItemMapper mockItemMapper = Mockito.mock(ItemMapper.class);
     private final BookingRepository mcckBookingRepository = Mockito.mock(BookingRepository.class);
     private final BookingMapper mockBookingMapper = Mockito.mock(BookingMapper.class);
+    private final ApprovedBookingIndex mockApprovedBookingIndex = Mockito.mock(ApprovedBookingIndex.class);
     private final CommentRepository mockCommentRepository = Mockito.mock(CommentRepository.class);
     private final CommentMapper mockCommentMapper = Mockito.mock(CommentMapper.class);
     private final ItemRequestRepository mockItemRequestRepository = Mockito.mock(ItemRequestRepository.class);
+    private final EntityManager mockEntityManager = Mockito.mock(EntityManager.class);
     private final ItemService itemService = new ItemServiceImpl(mockItemRepository, mockUserRepository, mockItemMapper,
-            mcckBookingRepository, mockBookingMapper, mockCommentRepository, mockCommentMapper, mockItemRequestRepository);
+            mcckBookingRepository, mockBookingMapper, mockApprovedBookingIndex, mockCommentRepository, mockCommentMapper, mockItemRequestRepository,
+            new UserExistenceIndex(mockUserRepository), mockEntityManager);
 
     static Stream<Integer> wrongIdParameters() {
         return Stream.of(-1, 0, 99);
@@ -110,8 +119,8 @@ class ItemServiceTests {
         Page<Item> itemPage = new PageImpl<>(itemList);
         List<ItemDtoWithTime> itemDtoList = List.of(toDto1, toDto2);
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRepository.findAllWhereOwnerIdIn(Mockito.anyInt(), Mockito.any()))
                 .thenReturn(itemPage);
@@ -142,8 +151,8 @@ class ItemServiceTests {
         List<Item> itemList = List.of(item1, item2);
         List<ItemDtoWithTime> itemDtoList = List.of(toDto1, toDto2);
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRepository.findAllWhereOwnerIdIn(Mockito.anyInt()))
                 .thenReturn(itemList);
@@ -154,6 +163,114 @@ class ItemServiceTests {
                 "Ошибка при поиске всех вещей без пагинации.");
     }
 
+    @Test
+    void findAllByUserIdWithBookings() {
+        User owner = new User(2, "User2", "email2@email.com");
+        User booker = new User(3, "User3", "email3@email.com");
+        Item item1 = new Item(1, "Item1", "Description1", true, owner, null);
+        Item item2 = new Item(2, "Item2", "Description2", true, owner, null);
+        Booking lastBooking = new Booking(1, item1, booker, BookingStatus.APPROVED,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+        Booking nextBooking = new Booking(2, item2, booker, BookingStatus.APPROVED,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        BookingDtoShort lastBookingDto = new BookingDtoShort(1, 3);
+        BookingDtoShort nextBookingDto = new BookingDtoShort(2, 3);
+        ItemDtoWithTime toDto1 = ItemDtoWithTime.builder()
+                .id(1)
+                .name("Item1")
+                .description("Description1")
+                .available(true)
+                .build();
+        ItemDtoWithTime toDto2 = ItemDtoWithTime.builder()
+                .id(2)
+                .name("Item2")
+                .description("Description2")
+                .available(true)
+                .build();
+        Mockito
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(mockItemRepository.findAllWhereOwnerIdIn(Mockito.anyInt()))
+                .thenReturn(List.of(item1, item2));
+        Mockito
+                .when(mockItemMapper.toDtoWithTime(Mockito.anyCollection()))
+                .thenReturn(List.of(toDto1, toDto2));
+        Mockito
+                .when(mcckBookingRepository.findNextApprovedByItemIds(Mockito.anyCollection(), Mockito.any()))
+                .thenReturn(List.of(nextBooking));
+        Mockito
+                .when(mcckBookingRepository.findLastApprovedByItemIds(Mockito.anyCollection(), Mockito.any()))
+                .thenReturn(List.of(lastBooking));
+        Mockito
+                .when(mockBookingMapper.toDtoShort(lastBooking))
+                .thenReturn(lastBookingDto);
+        Mockito
+                .when(mockBookingMapper.toDtoShort(nextBooking))
+                .thenReturn(nextBookingDto);
+        List<ItemDtoWithTime> items = List.copyOf(itemService.findAllByUserId(2, null, null));
+        Assertions.assertEquals(lastBookingDto, items.get(0).getLastBooking());
+        Assertions.assertNull(items.get(0).getNextBooking());
+        Assertions.assertNull(items.get(1).getLastBooking());
+        Assertions.assertEquals(nextBookingDto, items.get(1).getNextBooking());
+        Mockito.verify(mcckBookingRepository, Mockito.times(1))
+                .findNextApprovedByItemIds(Mockito.anyCollection(), Mockito.any());
+        Mockito.verify(mcckBookingRepository, Mockito.times(1))
+                .findLastApprovedByItemIds(Mockito.anyCollection(), Mockito.any());
+    }
+
+    @Test
+    void findAllByUserIdWithIndexedBookings() {
+        User owner = new User(2, "User2", "email2@email.com");
+        User booker = new User(3, "User3", "email3@email.com");
+        Item item1 = new Item(1, "Item1", "Description1", true, owner, null);
+        Item item2 = new Item(2, "Item2", "Description2", true, owner, null);
+        Booking nextBooking = new Booking(2, item2, booker, BookingStatus.APPROVED,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
+        BookingDtoShort lastBookingDto = new BookingDtoShort(1, 3);
+        BookingDtoShort nextBookingDto = new BookingDtoShort(2, 3);
+        ItemDtoWithTime toDto1 = ItemDtoWithTime.builder()
+                .id(1)
+                .name("Item1")
+                .description("Description1")
+                .available(true)
+                .build();
+        ItemDtoWithTime toDto2 = ItemDtoWithTime.builder()
+                .id(2)
+                .name("Item2")
+                .description("Description2")
+                .available(true)
+                .build();
+        Mockito
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
+        Mockito
+                .when(mockItemRepository.findAllWhereOwnerIdIn(Mockito.anyInt()))
+                .thenReturn(List.of(item1, item2));
+        Mockito
+                .when(mockItemMapper.toDtoWithTime(Mockito.anyCollection()))
+                .thenReturn(List.of(toDto1, toDto2));
+        Mockito
+                .when(mockApprovedBookingIndex.contains(1))
+                .thenReturn(true);
+        Mockito
+                .when(mockApprovedBookingIndex.findLast(Mockito.eq(1), Mockito.any()))
+                .thenReturn(lastBookingDto);
+        Mockito
+                .when(mcckBookingRepository.findNextApprovedByItemIds(Mockito.anyCollection(), Mockito.any()))
+                .thenReturn(List.of(nextBooking));
+        Mockito
+                .when(mockBookingMapper.toDtoShort(nextBooking))
+                .thenReturn(nextBookingDto);
+        List<ItemDtoWithTime> items = List.copyOf(itemService.findAllByUserId(2, null, null));
+        Assertions.assertEquals(lastBookingDto, items.get(0).getLastBooking());
+        Assertions.assertNull(items.get(0).getNextBooking());
+        Assertions.assertNull(items.get(1).getLastBooking());
+        Assertions.assertEquals(nextBookingDto, items.get(1).getNextBooking());
+        Mockito.verify(mcckBookingRepository).findNextApprovedByItemIds(Mockito.eq(Set.of(2)), Mockito.any());
+        Mockito.verify(mockApprovedBookingIndex).load(Set.of(2));
+    }
+
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findAllByUserIdWrongUserIdWithPage(int userId) {
@@ -172,10 +289,9 @@ class ItemServiceTests {
 
     @Test
     void findAllByUserIdFromNegative() {
-        User owner = new User(2, "User2", "email2@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> itemService.findAllByUserId(2, -1, 1));
         Assertions.assertEquals("Указаны неправильные параметры.", exception.getMessage(),
                 "Ошибка при поиске предметов с неправильным From.");
@@ -183,10 +299,9 @@ class ItemServiceTests {
 
     @Test
     void findAllByUserIdSizeNegative() {
-        User owner = new User(2, "User2", "email2@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> itemService.findAllByUserId(2, 0, -1));
         Assertions.assertEquals("Указаны неправильные параметры.", exception.getMessage(),
                 "Ошибка при поиске предметов с неправильным Size.");
@@ -194,10 +309,9 @@ class ItemServiceTests {
 
     @Test
     void findAllByUserIdSizeZero() {
-        User owner = new User(2, "User2", "email2@email.com");
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> itemService.findAllByUserId(2, 0, 0));
         Assertions.assertEquals("Указаны неправильные параметры.", exception.getMessage(),
                 "Ошибка при поиске предметов с неправильным Size.");
@@ -247,6 +361,50 @@ class ItemServiceTests {
                 "Ошибка при поиске предметов с неправильным указанием пользователя.");
     }
 
+    @Test
+    void findEtagByIdForOwnerIncludesBookings() {
+        Mockito
+                .when(mockItemRepository.findVersionById(1))
+                .thenReturn(Optional.of(itemVersion(3, 2, 1L, 4, 1L)));
+        Mockito
+                .when(mockApprovedBookingIndex.contains(1))
+                .thenReturn(true);
+        Mockito
+                .when(mockApprovedBookingIndex.findNext(Mockito.eq(1), Mockito.any()))
+                .thenReturn(BookingDtoShort.builder().id(5).bookerId(1).build());
+        Assertions.assertEquals("item-1-3-1-4-1", itemService.findEtagById(1, 1));
+        Assertions.assertEquals("item-1-3-1-4-1-null-5", itemService.findEtagById(1, 2));
+        Mockito.verify(mockItemRepository, Mockito.never()).findById(Mockito.anyInt());
+        Mockito.verify(mockCommentRepository, Mockito.never()).findByItem_Id(Mockito.anyInt());
+        Mockito.verifyNoInteractions(mockItemMapper, mockCommentMapper);
+    }
+
+    @Test
+    void findEtagByIdChangesWithCommentsAndAuthors() {
+        Mockito
+                .when(mockItemRepository.findVersionById(1))
+                .thenReturn(Optional.of(itemVersion(0, 2, 2L, 4, 3L)))
+                .thenReturn(Optional.of(itemVersion(0, 2, 2L, 4, 4L)))
+                .thenReturn(Optional.of(itemVersion(0, 2, 2L, 6, 4L)));
+        String etag = itemService.findEtagById(1, 1);
+        String authorUpdatedEtag = itemService.findEtagById(1, 1);
+        Assertions.assertNotEquals(etag, authorUpdatedEtag);
+        Assertions.assertNotEquals(authorUpdatedEtag, itemService.findEtagById(1, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("wrongIdParameters")
+    void findEtagByIdWrongItemId(int itemId) {
+        Assertions.assertThrows(ItemNotFound.class, () -> itemService.findEtagById(itemId, 1));
+    }
+
+    private static ItemVersionView itemVersion(int version, int ownerId, long comments, int lastCommentId,
+                                               long authorsVersion) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ItemVersionView.class,
+                Map.of("version", version, "ownerId", ownerId, "comments", comments,
+                        "lastCommentId", lastCommentId, "authorsVersion", authorsVersion));
+    }
+
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void findByIdWrongOwnerId(int ownerId) {
@@ -401,8 +559,8 @@ class ItemServiceTests {
                 .available(true)
                 .build();
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRepository.findById(Mockito.anyInt()))
                 .thenReturn(Optional.of(item1));
@@ -419,13 +577,12 @@ class ItemServiceTests {
     @ParameterizedTest
     @MethodSource("wrongIdParameters")
     void updateByIdWrongItemId(int itemId) {
-        User owner = new User(2, "User2", "email2@email.com");
         ItemDto toDto1 = ItemDto.builder()
                 .description("NewDescription")
                 .build();
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         ItemNotFound exception = Assertions.assertThrows(ItemNotFound.class, () -> itemService.updateById(2, itemId, toDto1));
         Assertions.assertEquals("Предмет с ID " + itemId + " не найден.", exception.getMessage(),
                 "Ошибка при обновлении предмета с неправильным указанием пользователя.");
@@ -541,8 +698,8 @@ class ItemServiceTests {
                 .description("NewDescription")
                 .build();
         Mockito
-                .when(mockUserRepository.findById(Mockito.anyInt()))
-                .thenReturn(Optional.of(owner));
+                .when(mockUserRepository.existsById(Mockito.anyInt()))
+                .thenReturn(true);
         Mockito
                 .when(mockItemRepository.findById(Mockito.anyInt()))
                 .thenReturn(Optional.of(item1));
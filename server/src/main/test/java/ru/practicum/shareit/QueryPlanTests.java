@@ -0,0 +1,276 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Named;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.booking.BookingStatus;
+import ru.practicum.shareit.item.CommentRepository;
+import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.request.ItemRequestRepository;
+import ru.practicum.shareit.user.UserRepository;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanTests {
+
+    private static final LocalDateTime TIME = LocalDateTime.of(2022, 6, 1, 9, 0);
+
+    private static final List<CapturedStatement> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private ItemRequestRepository itemRequestRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    Stream<Named<Runnable>> repositoryCalls() {
+        Pageable byStartDesc = PageRequest.of(0, 10, Sort.by("start").descending());
+        Pageable byStartAsc = PageRequest.of(0, 10, Sort.by("start").ascending());
+        Pageable firstPage = PageRequest.of(0, 10);
+        Pageable byIdAsc = PageRequest.of(0, 10, Sort.by("id").ascending());
+        LocalDateTime cursorStart = TIME.plusYears(1);
+        return Stream.of(
+                Named.of("findByBooker_IdEquals",
+                        () -> bookingRepository.findByBooker_IdEquals(42, byStartDesc)),
+                Named.of("findByBooker_IdAndStartAfter",
+                        () -> bookingRepository.findByBooker_IdAndStartAfter(42, TIME, byStartDesc)),
+                Named.of("findByBooker_IdAndEndBefore",
+                        () -> bookingRepository.findByBooker_IdAndEndBefore(42, TIME, byStartDesc)),
+                Named.of("findByBooker_IdAndStartBeforeAndEndAfter",
+                        () -> bookingRepository.findByBooker_IdAndStartBeforeAndEndAfter(42, TIME, TIME, byStartAsc)),
+                Named.of("findByBooker_IdAndStatusEquals",
+                        () -> bookingRepository.findByBooker_IdAndStatusEquals(42, BookingStatus.WAITING, byStartDesc)),
+                Named.of("findByItem_Owner_Id",
+                        () -> bookingRepository.findByItem_Owner_Id(42, byStartDesc)),
+                Named.of("findByItem_Owner_IdAndStartAfter",
+                        () -> bookingRepository.findByItem_Owner_IdAndStartAfter(42, TIME, byStartDesc)),
+                Named.of("findByItem_Owner_IdAndEndBefore",
+                        () -> bookingRepository.findByItem_Owner_IdAndEndBefore(42, TIME, byStartDesc)),
+                Named.of("findByItem_Owner_IdAndStartBeforeAndEndAfter",
+                        () -> bookingRepository.findByItem_Owner_IdAndStartBeforeAndEndAfter(42, TIME, TIME, byStartDesc)),
+                Named.of("findByItem_Owner_IdAndStatusEquals",
+                        () -> bookingRepository.findByItem_Owner_IdAndStatusEquals(42, BookingStatus.REJECTED, byStartDesc)),
+                Named.of("findByBookerBeforeCursor",
+                        () -> bookingRepository.findByBookerBeforeCursor(42, TIME, 500000, firstPage)),
+                Named.of("findByOwnerBeforeCursor",
+                        () -> bookingRepository.findByOwnerBeforeCursor(42, TIME, 500000, firstPage)),
+                Named.of("findFutureByBookerBeforeCursor",
+                        () -> bookingRepository.findFutureByBookerBeforeCursor(42, TIME, cursorStart, 500000, firstPage)),
+                Named.of("findPastByBookerBeforeCursor",
+                        () -> bookingRepository.findPastByBookerBeforeCursor(42, TIME, cursorStart, 500000, firstPage)),
+                Named.of("findCurrentByBookerAfterCursor",
+                        () -> bookingRepository.findCurrentByBookerAfterCursor(42, TIME, TIME.minusYears(1), 500000, firstPage)),
+                Named.of("findByBookerAndStatusBeforeCursor",
+                        () -> bookingRepository.findByBookerAndStatusBeforeCursor(42, BookingStatus.WAITING, cursorStart, 500000, firstPage)),
+                Named.of("findFutureByOwnerBeforeCursor",
+                        () -> bookingRepository.findFutureByOwnerBeforeCursor(42, TIME, cursorStart, 500000, firstPage)),
+                Named.of("findPastByOwnerBeforeCursor",
+                        () -> bookingRepository.findPastByOwnerBeforeCursor(42, TIME, cursorStart, 500000, firstPage)),
+                Named.of("findCurrentByOwnerBeforeCursor",
+                        () -> bookingRepository.findCurrentByOwnerBeforeCursor(42, TIME, cursorStart, 500000, firstPage)),
+                Named.of("findByOwnerAndStatusBeforeCursor",
+                        () -> bookingRepository.findByOwnerAndStatusBeforeCursor(42, BookingStatus.REJECTED, cursorStart, 500000, firstPage)),
+                Named.of("streamByOwner",
+                        () -> {
+                            try (Stream<Booking> bookings = bookingRepository.streamByOwner(42)) {
+                                bookings.count();
+                            }
+                        }),
+                Named.of("findVersionById",
+                        () -> bookingRepository.findVersionById(42)),
+                Named.of("findFirstByItem_IdAndStartAfterAndStatusOrderByStart",
+                        () -> bookingRepository.findFirstByItem_IdAndStartAfterAndStatusOrderByStart(42, TIME, BookingStatus.APPROVED)),
+                Named.of("findFirstByItem_IdAndStartBeforeAndStatusOrderByEndDesc",
+                        () -> bookingRepository.findFirstByItem_IdAndStartBeforeAndStatusOrderByEndDesc(42, TIME, BookingStatus.APPROVED)),
+                Named.of("findNextApprovedByItemIds",
+                        () -> bookingRepository.findNextApprovedByItemIds(List.of(1, 2, 3), TIME)),
+                Named.of("findLastApprovedByItemIds",
+                        () -> bookingRepository.findLastApprovedByItemIds(List.of(1, 2, 3), TIME)),
+                Named.of("existsBookingByBooker_IdAndItem_IdAndEndBefore",
+                        () -> bookingRepository.existsBookingByBooker_IdAndItem_IdAndEndBefore(42, 42, TIME)),
+                Named.of("existsApprovedOverlapping",
+                        () -> bookingRepository.existsApprovedOverlapping(42, TIME, TIME.plusDays(1))),
+                Named.of("findApprovedOverlapping",
+                        () -> bookingRepository.findApprovedOverlapping(List.of(1, 2, 3), TIME, TIME.plusDays(1))),
+                Named.of("findRelevantApprovedByItemIds",
+                        () -> bookingRepository.findRelevantApprovedByItemIds(List.of(1, 2, 3), TIME)),
+                Named.of("findAllWhereOwnerIdIn",
+                        () -> itemRepository.findAllWhereOwnerIdIn(42)),
+                Named.of("findAllWhereOwnerIdIn(page)",
+                        () -> itemRepository.findAllWhereOwnerIdIn(42, PageRequest.of(0, 10, Sort.by("id").ascending()))),
+                Named.of("ItemRequest.items",
+                        () -> itemRequestRepository.findById(42).orElseThrow().getItems().size()),
+                Named.of("findByName",
+                        () -> itemRepository.findByName("ItEm12345", firstPage)),
+                Named.of("findByItem_Id",
+                        () -> commentRepository.findByItem_Id(42)),
+                Named.of("ItemRequestRepository.findAll",
+                        () -> itemRequestRepository.findAll(42)),
+                Named.of("UserRepository.findById",
+                        () -> userRepository.findById(42)),
+                Named.of("UserRepository.findAllBy",
+                        () -> userRepository.findAllBy(PageRequest.of(500, 10, Sort.by("id").ascending()))),
+                Named.of("UserRepository.findByIdGreaterThan",
+                        () -> userRepository.findByIdGreaterThan(5000, byIdAsc))
+        );
+    }
+
+    @BeforeAll
+    void seedDatabase() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("cleanup.sql"),
+                new ClassPathResource("queryPlanData.sql"));
+        populator.execute(dataSource);
+    }
+
+    @AfterAll
+    void cleanDatabase() {
+        new ResourceDatabasePopulator(new ClassPathResource("cleanup.sql")).execute(dataSource);
+    }
+
+    @ParameterizedTest
+    @MethodSource("repositoryCalls")
+    void repositoryQueryDoesNotUseSeqScan(Runnable call) {
+        entityManagerFactory.getCache().evictAll();
+        STATEMENTS.clear();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> call.run());
+        List<CapturedStatement> statements = new ArrayList<>(STATEMENTS);
+        Assertions.assertFalse(statements.isEmpty());
+        for (CapturedStatement statement : statements) {
+            String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + statement.sql, String.class,
+                    statement.parameters.values().toArray()));
+            String message = statement.sql + "\n" + plan;
+            Assertions.assertFalse(plan.contains("Seq Scan on booking"), message);
+            Assertions.assertFalse(plan.contains("Seq Scan on item"), message);
+            Assertions.assertFalse(plan.contains("Seq Scan on comments"), message);
+            Assertions.assertFalse(plan.contains("Seq Scan on request"), message);
+            Assertions.assertFalse(plan.contains("Seq Scan on users"), message);
+        }
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfiguration {
+
+        @Bean
+        static BeanPostProcessor statementCapture() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource) {
+                        return proxy(DataSource.class, bean, (method, args, result) ->
+                                result instanceof Connection ? capture((Connection) result) : result);
+                    }
+                    return bean;
+                }
+            };
+        }
+
+        private static Connection capture(Connection connection) {
+            return proxy(Connection.class, connection, (method, args, result) -> {
+                if (method.getName().equals("prepareStatement") && args[0] instanceof String) {
+                    CapturedStatement statement = new CapturedStatement((String) args[0]);
+                    STATEMENTS.add(statement);
+                    return capture((PreparedStatement) result, statement);
+                }
+                return result;
+            });
+        }
+
+        private static PreparedStatement capture(PreparedStatement preparedStatement, CapturedStatement statement) {
+            return proxy(PreparedStatement.class, preparedStatement, (method, args, result) -> {
+                if (method.getName().startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    statement.parameters.put((Integer) args[0], method.getName().equals("setNull") ? null : args[1]);
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, Object target, Interceptor interceptor) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                return interceptor.intercept(method, args, result);
+            });
+        }
+
+    }
+
+    private interface Interceptor {
+
+        Object intercept(Method method, Object[] args, Object result);
+
+    }
+
+    private static class CapturedStatement {
+
+        private final String sql;
+
+        private final Map<Integer, Object> parameters = new TreeMap<>();
+
+        CapturedStatement(String sql) {
+            this.sql = sql;
+        }
+
+    }
+
+}
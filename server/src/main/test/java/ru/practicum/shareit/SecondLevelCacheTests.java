@@ -0,0 +1,94 @@
+package ru.practicum.shareit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.item.ItemService;
+import ru.practicum.shareit.request.ItemRequestService;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserService;
+
+import javax.persistence.EntityManagerFactory;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class SecondLevelCacheTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRequestService itemRequestService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void clearStatistics() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void evictCache() {
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void repeatedUserLookupIsServedFromCache() {
+        userService.findById(1);
+        userService.findById(1);
+        Assertions.assertEquals(1, statistics.getSecondLevelCacheHitCount(),
+                "Повторный поиск пользователя должен обслуживаться из кэша.");
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void requestLookupIsServedFromCache() {
+        transactionTemplate.executeWithoutResult(status -> itemRequestService.findById(2, 1));
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> itemRequestService.findById(2, 1));
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics("requests").getHitCount(),
+                "Повторный поиск запроса должен обслуживаться из кэша.");
+        Assertions.assertEquals(0, statistics.getDomainDataRegionStatistics("requests").getMissCount());
+    }
+
+    @Test
+    void updateRefreshesCachedUser() {
+        userService.findById(1);
+        userService.updateById(1, User.builder().name("Updated").build());
+        Assertions.assertEquals("Updated", userService.findById(1).getName());
+    }
+
+    @Test
+    void itemLookupIsServedFromCache() {
+        transactionTemplate.executeWithoutResult(status -> itemService.findById(1, 2));
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> itemService.findById(1, 2));
+        Assertions.assertEquals(1, statistics.getDomainDataRegionStatistics("items").getHitCount(),
+                "Повторный поиск вещи должен обслуживаться из кэша.");
+        Assertions.assertEquals(0, statistics.getDomainDataRegionStatistics("items").getMissCount());
+    }
+
+}
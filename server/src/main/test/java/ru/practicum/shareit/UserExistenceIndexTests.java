@@ -0,0 +1,99 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
+import ru.practicum.shareit.user.UserExistenceIndex;
+import ru.practicum.shareit.user.UserRepository;
+
+class UserExistenceIndexTests {
+
+    private final UserRepository mockUserRepository = Mockito.mock(UserRepository.class);
+
+    private final UserExistenceIndex userExistenceIndex = new UserExistenceIndex(mockUserRepository);
+
+    @Test
+    void checkedUserIsRemembered() {
+        Mockito
+                .when(mockUserRepository.existsById(1))
+                .thenReturn(true);
+        userExistenceIndex.checkExists(1);
+        userExistenceIndex.checkExists(1);
+        Mockito.verify(mockUserRepository, Mockito.times(1)).existsById(1);
+    }
+
+    @Test
+    void addedUserSkipsRepository() {
+        userExistenceIndex.add(5);
+        userExistenceIndex.checkExists(5);
+        Mockito.verify(mockUserRepository, Mockito.never()).existsById(Mockito.anyInt());
+    }
+
+    @Test
+    void unknownUserNotFound() {
+        UserNotFound exception = Assertions.assertThrows(UserNotFound.class, () -> userExistenceIndex.checkExists(99));
+        Assertions.assertEquals("Пользователь с ID 99 не найден.", exception.getMessage());
+    }
+
+    @Test
+    void removedUserIsCheckedAgain() {
+        userExistenceIndex.add(5);
+        userExistenceIndex.remove(5);
+        Assertions.assertThrows(UserNotFound.class, () -> userExistenceIndex.checkExists(5));
+    }
+
+    @Test
+    void userOutsideIndexIsCheckedInRepository() {
+        Mockito
+                .when(mockUserRepository.existsById(Integer.MAX_VALUE))
+                .thenReturn(true);
+        userExistenceIndex.add(Integer.MAX_VALUE);
+        userExistenceIndex.checkExists(Integer.MAX_VALUE);
+        userExistenceIndex.checkExists(Integer.MAX_VALUE);
+        Mockito.verify(mockUserRepository, Mockito.times(2)).existsById(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void checkDuringDeleteTransactionIsForgottenAfterCommit() {
+        Mockito
+                .when(mockUserRepository.existsById(5))
+                .thenReturn(true, false);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userExistenceIndex.remove(5);
+            userExistenceIndex.checkExists(5);
+            completeTransaction();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Assertions.assertThrows(UserNotFound.class, () -> userExistenceIndex.checkExists(5));
+    }
+
+    @Test
+    void deleteCommittedDuringCheckIsNotMarked() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userExistenceIndex.remove(5);
+            Mockito
+                    .when(mockUserRepository.existsById(5))
+                    .thenAnswer(invocation -> {
+                        completeTransaction();
+                        return true;
+                    })
+                    .thenReturn(false);
+            userExistenceIndex.checkExists(5);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        Assertions.assertThrows(UserNotFound.class, () -> userExistenceIndex.checkExists(5));
+    }
+
+    private static void completeTransaction() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+}
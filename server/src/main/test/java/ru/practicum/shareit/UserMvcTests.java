@@ -5,22 +5,28 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import ru.practicum.shareit.user.User;
 import ru.practicum.shareit.user.UserController;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
+import ru.practicum.shareit.user.dto.UserView;
 
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
@@ -67,9 +73,15 @@ class UserMvcTests {
                 .email("email@email.com")
                 .build();
         List<User> users = List.of(user);
-        when(userService.findAll())
-                .thenReturn(users);
-        mvc.perform(get("/users"))
+        doAnswer(invocation -> {
+            Consumer<UserView> action = invocation.getArgument(0);
+            users.forEach(u -> action.accept(view(u)));
+            return null;
+        }).when(userService).streamAll(any());
+        MvcResult result = mvc.perform(get("/users"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.size()", is(users.size())))
                 .andExpect(jsonPath("$[0].id", is(users.get(0).getId())))
@@ -78,8 +90,43 @@ class UserMvcTests {
     }
 
     @Test
-    void findById() throws Exception {
+    void findAllWithPage() throws Exception {
+        User user = User.builder()
+                .id(2)
+                .name("user2")
+                .email("email2@email.com")
+                .build();
+        when(userService.findAll(0, 1))
+                .thenReturn(List.of(view(user)));
+        mvc.perform(get("/users")
+                        .param("from", "0")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()", is(1)))
+                .andExpect(jsonPath("$[0].id", is(user.getId())))
+                .andExpect(jsonPath("$[0].name", is(user.getName())))
+                .andExpect(jsonPath("$[0].email", is(user.getEmail())));
+    }
+
+    @Test
+    void findAllAfterCursor() throws Exception {
         User user = User.builder()
+                .id(2)
+                .name("user2")
+                .email("email2@email.com")
+                .build();
+        when(userService.findAllAfter(1, 1))
+                .thenReturn(List.of(view(user)));
+        mvc.perform(get("/users")
+                        .param("after", "1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", is(user.getId())));
+    }
+
+    @Test
+    void findById() throws Exception {
+        UserDto user = UserDto.builder()
                 .id(1)
                 .name("user1")
                 .email("email@email.com")
@@ -90,7 +137,8 @@ class UserMvcTests {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id", is(user.getId())))
                 .andExpect(jsonPath("$.name", is(user.getName())))
-                .andExpect(jsonPath("$.email", is(user.getEmail())));
+                .andExpect(jsonPath("$.email", is(user.getEmail())))
+                .andExpect(jsonPath("$.version").doesNotExist());
     }
 
     @Test
@@ -122,4 +170,8 @@ class UserMvcTests {
                 .andExpect(jsonPath("$.email", is(toDto.getEmail())));
     }
 
-}
\ No newline at end of file
+    private static UserView view(User user) {
+        return new SpelAwareProxyProjectionFactory().createProjection(UserView.class, user);
+    }
+
+}
@@ -1,35 +1,69 @@
 package ru.practicum.shareit;
 
 import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.jdbc.Sql;
+import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import javax.persistence.EntityManagerFactory;
+
 @SpringBootTest
+@SpyBean(UserExistenceIndex.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@Sql(value = {"/schema.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+@Sql(value = {"/cleanup.sql"}, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 @Sql(value = "/testData.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
 class UserServiceIntergrationalTest {
 
     private final UserService userService;
 
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final UserExistenceIndex userExistenceIndex;
+
+    @AfterEach
+    void evictCache() {
+        entityManagerFactory.getCache().evictAll();
+        userExistenceIndex.clear();
+    }
+
     @Test
     void saveNormal() {
         UserDto startDto = UserDto.builder()
                 .name("User4")
                 .email("user@email.com")
                 .build();
+        UserDto user = userService.save(startDto);
         UserDto toDto = UserDto.builder()
-                .id(4)
+                .id(user.getId())
                 .name("User4")
                 .email("user@email.com")
                 .build();
-        Assertions.assertEquals(toDto, userService.save(startDto),
+        Assertions.assertEquals(toDto, user,
                 "Ошибка при нормальном сохранении нового пользователя.");
     }
 
-}
\ No newline at end of file
+    @Test
+    void deleteForgetsUserCheckedDuringDelete() {
+        UserDto user = userService.save(UserDto.builder()
+                .name("User4")
+                .email("user@email.com")
+                .build());
+        Mockito.doAnswer(invocation -> {
+            invocation.callRealMethod();
+            userExistenceIndex.checkExists(user.getId());
+            return null;
+        }).when(userExistenceIndex).remove(user.getId());
+        userService.deleteById(user.getId());
+        Assertions.assertThrows(UserNotFound.class, () -> userExistenceIndex.checkExists(user.getId()));
+    }
+
+}
@@ -3,15 +3,23 @@ package ru.practicum.shareit;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import ru.practicum.shareit.exceptions.exceptions.UserNotFound;
+import ru.practicum.shareit.exceptions.exceptions.WrongParameter;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserExistenceIndex;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.UserServiceImpl;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.user.dto.UserView;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -24,7 +32,8 @@ class UserServiceTests {
 
     private final UserMapper mockMapper = Mockito.mock(UserMapper.class);
 
-    private final UserService userService = new UserServiceImpl(mockRepository, mockMapper);
+    private final UserService userService = new UserServiceImpl(mockRepository, mockMapper,
+            new UserExistenceIndex(mockRepository));
 
     static Stream<Integer> wrongIdParameters() {
         return Stream.of(-1, 0, 99);
@@ -63,34 +72,83 @@ class UserServiceTests {
 
     @Test
     void findAllEmpty() {
-        List<User> listOfUsers = new ArrayList<>();
+        List<UserView> listOfUsers = new ArrayList<>();
         Mockito
-                .when(mockRepository.findAll())
-                .thenReturn(new ArrayList<>());
-        Assertions.assertEquals(listOfUsers, userService.findAll(),
+                .when(mockRepository.streamAll())
+                .thenReturn(Stream.empty());
+        List<UserView> result = new ArrayList<>();
+        userService.streamAll(result::add);
+        Assertions.assertEquals(listOfUsers, result,
                 "Ошибка при получении пустого списка всех пользователей.");
     }
 
     @Test
     void findAllNormal() {
-        List<User> listOfUsers = List.of(
-                new User(1, "User1", "Email1@Email.com"),
-                new User(2, "User2", "Email2@Email.com")
+        List<UserView> listOfUsers = List.of(
+                view(new User(1, "User1", "Email1@Email.com")),
+                view(new User(2, "User2", "Email2@Email.com"))
         );
         Mockito
-                .when(mockRepository.findAll())
-                .thenReturn(listOfUsers);
-        Assertions.assertEquals(listOfUsers, userService.findAll(),
+                .when(mockRepository.streamAll())
+                .thenReturn(listOfUsers.stream());
+        List<UserView> result = new ArrayList<>();
+        userService.streamAll(result::add);
+        Assertions.assertEquals(listOfUsers, result,
                 "Ошибка при нормальном получении списка всех пользователей.");
     }
 
+    @Test
+    void findAllWithPage() {
+        List<UserView> listOfUsers = List.of(view(new User(3, "User3", "Email3@Email.com")));
+        Mockito
+                .when(mockRepository.findAllBy(Mockito.any()))
+                .thenReturn(new SliceImpl<>(listOfUsers));
+        Assertions.assertEquals(listOfUsers, userService.findAll(2, 2),
+                "Ошибка при получении страницы пользователей.");
+        Mockito.verify(mockRepository).findAllBy(PageRequest.of(1, 2, Sort.by("id")));
+    }
+
+    @Test
+    void findAllAfterCursor() {
+        List<UserView> listOfUsers = List.of(view(new User(3, "User3", "Email3@Email.com")));
+        Mockito
+                .when(mockRepository.findByIdGreaterThan(Mockito.anyInt(), Mockito.any()))
+                .thenReturn(new SliceImpl<>(listOfUsers));
+        Assertions.assertEquals(listOfUsers, userService.findAllAfter(2, 1),
+                "Ошибка при получении пользователей после курсора.");
+        Mockito.verify(mockRepository).findByIdGreaterThan(2, PageRequest.of(0, 1, Sort.by("id")));
+    }
+
+    @ParameterizedTest
+    @MethodSource("wrongPageParameters")
+    void findAllWrongPage(int from, int size) {
+        WrongParameter exception = Assertions.assertThrows(WrongParameter.class, () -> userService.findAll(from, size));
+        Assertions.assertEquals("Указаны неправильные параметры.", exception.getMessage());
+    }
+
+    static Stream<Arguments> wrongPageParameters() {
+        return Stream.of(Arguments.of(-1, 10), Arguments.of(0, 0), Arguments.of(0, -1));
+    }
+
+    private static UserView view(User user) {
+        return new SpelAwareProxyProjectionFactory().createProjection(UserView.class, user);
+    }
+
     @Test
     void findByIdNormal() {
         User user = new User(1, "User1", "Email1@Email.com");
+        UserDto userDto = UserDto.builder()
+                .id(1)
+                .name("User1")
+                .email("Email1@Email.com")
+                .build();
         Mockito
                 .when(mockRepository.findById(Mockito.anyInt()))
                 .thenReturn(Optional.of(user));
-        Assertions.assertEquals(user, userService.findById(1),
+        Mockito
+                .when(mockMapper.toDto(user))
+                .thenReturn(userDto);
+        Assertions.assertEquals(userDto, userService.findById(1),
                 "Ошибка при нормальном писке пользователя по ID.");
     }
 
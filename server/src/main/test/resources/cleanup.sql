@@ -0,0 +1 @@
+TRUNCATE TABLE public.comments, public.booking, public.item, public.request, public.users;
@@ -0,0 +1,22 @@
+INSERT INTO USERS (ID, NAME, EMAIL)
+SELECT g, 'User' || g, 'email' || g || '@email.com' FROM generate_series(1, 10000) g;
+INSERT INTO REQUEST (ID, OWNER_ID, DESCRIPTION, CREATED)
+SELECT g, (g % 10000) + 1, 'request_description' || g, timestamp '2022-01-01 9:00' + g * interval '1 hour'
+FROM generate_series(1, 10000) g;
+INSERT INTO ITEM (ID, NAME, DESCRIPTION, AVAILABLE, OWNER_ID, REQUEST_ID)
+SELECT g, 'Item' || g, 'description' || g, g % 2 = 0, (g % 10000) + 1, CASE WHEN g % 10 = 0 THEN (g % 10000) + 1 END
+FROM generate_series(1, 100000) g;
+INSERT INTO BOOKING (ID, BOOKER, ITEM_ID, STATUS, START, FINISH)
+SELECT g, (g % 10000) + 1, (g % 100000) + 1, (ARRAY ['WAITING', 'APPROVED', 'REJECTED'])[g % 3 + 1],
+       timestamp '2020-01-01 9:00' + g * interval '5 minute',
+       timestamp '2020-01-01 9:00' + g * interval '5 minute' + interval '1 day'
+FROM generate_series(1, 1000000) g;
+INSERT INTO COMMENTS (ID, ITEM_ID, AUTHOR_ID, TEXT, CREATED)
+SELECT g, (g % 100000) + 1, (g % 10000) + 1, 'comment' || g, timestamp '2022-01-01 9:00' + g * interval '1 minute'
+FROM generate_series(1, 100000) g;
+SELECT setval('public.users_seq', 10001, false);
+SELECT setval('public.request_seq', 10001, false);
+SELECT setval('public.item_seq', 100001, false);
+SELECT setval('public.booking_seq', 1000001, false);
+SELECT setval('public.comments_seq', 100001, false);
+ANALYZE;